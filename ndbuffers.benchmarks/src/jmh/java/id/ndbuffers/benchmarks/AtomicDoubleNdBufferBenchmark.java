@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.benchmarks;
+
+import id.ndbuffers.AtomicDoubleNdBuffer;
+import id.ndbuffers.DoubleNdAdder;
+import id.ndbuffers.DoubleNdBuffer;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.Shape;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Multiple threads accumulating into the shared 256x256 grid: global lock vs atomic updates vs
+ * striped accumulator.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Benchmark)
+@Threads(4)
+public class AtomicDoubleNdBufferBenchmark {
+    private static final int N = 256;
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+
+    private DoubleNdBuffer grid;
+    private AtomicDoubleNdBuffer atomicGrid;
+    private AtomicDoubleNdBuffer directAtomicGrid;
+    private DoubleNdAdder adder;
+
+    @Setup
+    public void setup() {
+        var shape = new Shape(N, N);
+        grid = ndFactory.ndBuffer(shape, new double[N * N]);
+        atomicGrid = new AtomicDoubleNdBuffer(grid);
+        directAtomicGrid =
+                new AtomicDoubleNdBuffer(
+                        shape,
+                        ByteBuffer.allocateDirect(N * N * Double.BYTES)
+                                .order(ByteOrder.nativeOrder()));
+        adder = new DoubleNdAdder(shape);
+    }
+
+    @Benchmark
+    public void add_lock() {
+        var random = ThreadLocalRandom.current();
+        var i = random.nextInt(N);
+        var j = random.nextInt(N);
+        synchronized (grid) {
+            grid.set(grid.get(i, j) + 1, i, j);
+        }
+    }
+
+    @Benchmark
+    public double add_atomic() {
+        var random = ThreadLocalRandom.current();
+        return atomicGrid.getAndAdd(1, random.nextInt(N), random.nextInt(N));
+    }
+
+    @Benchmark
+    public double add_atomic_direct() {
+        var random = ThreadLocalRandom.current();
+        return directAtomicGrid.getAndAdd(1, random.nextInt(N), random.nextInt(N));
+    }
+
+    @Benchmark
+    public void add_striped() {
+        var random = ThreadLocalRandom.current();
+        adder.add(1, random.nextInt(N), random.nextInt(N));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public DoubleNdBuffer sum_striped() {
+        return adder.sum();
+    }
+}
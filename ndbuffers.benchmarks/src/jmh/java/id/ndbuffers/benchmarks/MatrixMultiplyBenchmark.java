@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.benchmarks;
+
+import id.ndbuffers.Slice;
+import id.ndbuffers.matrix.Matrix4d;
+import id.ndbuffers.matrix.MatrixNd;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Thread)
+public class MatrixMultiplyBenchmark {
+    private static final int POINTS = 10_000;
+    private static final int SIZE = 256;
+
+    private MatrixNd points;
+    private Matrix4d transform;
+    private MatrixNd transformed;
+    private MatrixNd a;
+    private MatrixNd b;
+    private MatrixNd c;
+
+    @Setup
+    public void setup() {
+        points = new MatrixNd(POINTS, 4, new double[POINTS * 4]);
+        transform = new Matrix4d(new double[16]);
+        transformed = new MatrixNd(POINTS, 4, new double[POINTS * 4]);
+        a = new MatrixNd(SIZE, SIZE, new double[SIZE * SIZE]);
+        b = new MatrixNd(SIZE, SIZE, new double[SIZE * SIZE]);
+        c = new MatrixNd(new Slice(0, SIZE, 1), new Slice(0, SIZE, 1), new double[SIZE * SIZE]);
+    }
+
+    /** Points in homogeneous coordinates multiplied by 4x4 transformation matrix */
+    @Benchmark
+    public void multiply_points() {
+        points.multiply(transform, transformed);
+    }
+
+    @Benchmark
+    public void multiply_square() {
+        a.multiply(b, c);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.benchmarks;
+
+import id.ndbuffers.DoubleNdBuffer;
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.Shape;
+import id.ndbuffers.matrix.MatrixN3d;
+import id.ndbuffers.matrix.MatrixNd;
+import id.ndbuffers.matrix.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Item access through base ndbuffers and views.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Thread)
+public class NdBufferAccessBenchmark {
+    private static final int ROWS = 1000;
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+
+    private DoubleNdBuffer base;
+    private MatrixN3d points;
+    private MatrixNd matrixView;
+    private Vector3d vectorView;
+
+    @Setup
+    public void setup() {
+        base = ndFactory.ndBuffer(new Shape(ROWS, 3), new double[ROWS * 3]);
+        points = ndFactory.matrixN3d(new double[ROWS * 3]);
+        // view over the view over the base ndbuffer
+        matrixView = ndFactory.matrixNd(NSlice.of("1:%d:2".formatted(ROWS), "0:3"), points);
+        vectorView = points.getVectorView(ROWS / 2);
+    }
+
+    @Benchmark
+    public double base_get_varargs() {
+        var sum = 0.;
+        for (int r = 0; r < ROWS; r++) {
+            sum += base.get(new int[] {r, 0}) + base.get(new int[] {r, 1});
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double base_get() {
+        var sum = 0.;
+        for (int r = 0; r < ROWS; r++) {
+            sum += base.get(r, 0) + base.get(r, 1) + base.get(r, 2);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double base_getUnchecked() {
+        var sum = 0.;
+        var index = new int[2];
+        for (int r = 0; r < ROWS; r++) {
+            index[0] = r;
+            for (int c = 0; c < 3; c++) {
+                index[1] = c;
+                sum += base.getUnchecked(index);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double base_forEach() {
+        var sum = new double[1];
+        base.forEach((index, v) -> sum[0] += v);
+        return sum[0];
+    }
+
+    @Benchmark
+    public double base_cursor() {
+        var sum = 0.;
+        var cursor = base.cursor();
+        while (cursor.hasNext()) sum += cursor.nextDouble();
+        return sum;
+    }
+
+    @Benchmark
+    public double matrixView_cursor() {
+        var sum = 0.;
+        var cursor = matrixView.cursor();
+        while (cursor.hasNext()) sum += cursor.nextDouble();
+        return sum;
+    }
+
+    @Benchmark
+    public void base_set() {
+        for (int r = 0; r < ROWS; r++) {
+            base.set(r, r, 0);
+            base.set(r, r, 1);
+            base.set(r, r, 2);
+        }
+    }
+
+    @Benchmark
+    public double matrixView_get() {
+        var sum = 0.;
+        var rows = matrixView.getRows();
+        for (int r = 0; r < rows; r++) {
+            sum += matrixView.get(r, 0) + matrixView.get(r, 1) + matrixView.get(r, 2);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public void matrixView_set() {
+        var rows = matrixView.getRows();
+        for (int r = 0; r < rows; r++) {
+            matrixView.set(r, r, 0);
+            matrixView.set(r, r, 1);
+            matrixView.set(r, r, 2);
+        }
+    }
+
+    @Benchmark
+    public double vectorView_get() {
+        return vectorView.getX() + vectorView.getY() + vectorView.getZ();
+    }
+
+    @Benchmark
+    public Vector3d vectorView_create() {
+        return points.getVectorView(ROWS / 2);
+    }
+}
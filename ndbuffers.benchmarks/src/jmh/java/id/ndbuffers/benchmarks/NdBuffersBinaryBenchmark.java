@@ -0,0 +1,67 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.benchmarks;
+
+import id.ndbuffers.DoubleNdBuffer;
+import id.ndbuffers.NdBuffersBinaryUtils;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.Shape;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Binary serialization of the same ndbuffer as in {@link NdBuffersJsonBenchmark}.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Thread)
+public class NdBuffersBinaryBenchmark {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private final NdBuffersBinaryUtils binaryUtils = new NdBuffersBinaryUtils();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    private DoubleNdBuffer tensor;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() throws IOException {
+        var data = IntStream.range(0, 8 * 64 * 64).mapToDouble(i -> i / 3.).toArray();
+        tensor = ndFactory.ndBuffer(new Shape(8, 64, 64), data);
+        binaryUtils.write(tensor, Channels.newChannel(out));
+        serialized = out.toByteArray();
+    }
+
+    @Benchmark
+    public int write_3d() throws IOException {
+        out.reset();
+        binaryUtils.write(tensor, Channels.newChannel(out));
+        return out.size();
+    }
+
+    @Benchmark
+    public DoubleNdBuffer read_3d() throws IOException {
+        return binaryUtils.read(Channels.newChannel(new ByteArrayInputStream(serialized)));
+    }
+}
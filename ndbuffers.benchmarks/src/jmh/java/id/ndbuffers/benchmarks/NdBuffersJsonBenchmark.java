@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.benchmarks;
+
+import id.ndbuffers.DoubleNdBuffer;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.NdBuffersJsonUtils.Option;
+import id.ndbuffers.Shape;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Thread)
+public class NdBuffersJsonBenchmark {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils();
+    private final NdBuffersJsonUtils compactJsonUtils =
+            new NdBuffersJsonUtils(Option.COMPACT, Option.ROUND_TRIP);
+    private final Writer writer = Writer.nullWriter();
+
+    private DoubleNdBuffer matrix;
+    private DoubleNdBuffer tensor;
+    private String tensorJson;
+
+    @Setup
+    public void setup() {
+        var data = IntStream.range(0, 8 * 64 * 64).mapToDouble(i -> i / 3.).toArray();
+        matrix = ndFactory.ndBuffer(new Shape(64, 64), data);
+        tensor = ndFactory.ndBuffer(new Shape(8, 64, 64), data);
+        tensorJson = compactJsonUtils.dumpAsJson(tensor);
+    }
+
+    @Benchmark
+    public String dumpAsJson_2d() {
+        return jsonUtils.dumpAsJson(matrix);
+    }
+
+    @Benchmark
+    public String dumpAsJson_3d() {
+        return jsonUtils.dumpAsJson(tensor);
+    }
+
+    @Benchmark
+    public void dumpAsJson_3d_stream() throws IOException {
+        jsonUtils.dumpAsJson(tensor, writer);
+    }
+
+    @Benchmark
+    public void dumpAsJson_3d_stream_compact() throws IOException {
+        compactJsonUtils.dumpAsJson(tensor, writer);
+    }
+
+    @Benchmark
+    public DoubleNdBuffer readJson_3d() {
+        return jsonUtils.readJson(tensorJson);
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.benchmarks;
+
+import id.ndbuffers.DoubleNdBuffer;
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersMath;
+import id.ndbuffers.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Element-wise arithmetic over consecutive and strided ndbuffers.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Thread)
+public class NdBuffersMathBenchmark {
+    private static final int ROWS = 100_000;
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private final NdBuffersMath math = new NdBuffersMath();
+
+    private DoubleNdBuffer a;
+    private DoubleNdBuffer b;
+    private DoubleNdBuffer dst;
+    private DoubleNdBuffer stepped;
+    private DoubleNdBuffer steppedDst;
+    private DoubleNdBuffer row;
+
+    @Setup
+    public void setup() {
+        var shape = new Shape(ROWS, 3);
+        a = ndFactory.ndBuffer(shape, new double[ROWS * 3]);
+        b = ndFactory.ndBuffer(shape, new double[ROWS * 3]);
+        dst = ndFactory.ndBuffer(shape, new double[ROWS * 3]);
+        stepped = ndFactory.matrixNd(NSlice.of("0:%d:2".formatted(ROWS), "0:3"), a);
+        steppedDst = ndFactory.matrixNd(NSlice.of("1:%d:2".formatted(ROWS), "0:3"), dst);
+        row = ndFactory.ndBuffer(new double[] {1, 2, 3});
+    }
+
+    @Benchmark
+    public void add_consecutive() {
+        math.add(a, b, dst);
+    }
+
+    @Benchmark
+    public void scale_consecutive() {
+        math.scale(a, 1.5, dst);
+    }
+
+    @Benchmark
+    public void fma_consecutive() {
+        math.fma(a, 1.5, b, dst);
+    }
+
+    @Benchmark
+    public void add_strided() {
+        math.add(stepped, 1, steppedDst);
+    }
+
+    /** Row is broadcast to every row of the matrix */
+    @Benchmark
+    public void sub_broadcast() {
+        math.sub(a, row, dst);
+    }
+
+    @Benchmark
+    public double sum_consecutive() {
+        return math.sum(a);
+    }
+
+    @Benchmark
+    public DoubleNdBuffer mean_axis0() {
+        return math.mean(a, 0, false);
+    }
+
+    @Benchmark
+    public DoubleNdBuffer mean_axis1() {
+        return math.mean(a, 1, false);
+    }
+}
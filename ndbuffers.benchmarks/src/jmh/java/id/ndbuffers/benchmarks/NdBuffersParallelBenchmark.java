@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.benchmarks;
+
+import id.ndbuffers.DoubleNdBuffer;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersMath;
+import id.ndbuffers.Shape;
+import java.util.concurrent.ForkJoinPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Sequential vs parallel bulk operations over 4000x4000 ndbuffer.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Benchmark)
+public class NdBuffersParallelBenchmark {
+    private static final int N = 4000;
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private final NdBuffersMath math = new NdBuffersMath();
+    private final NdBuffersMath parallelMath = new NdBuffersMath(ForkJoinPool.commonPool());
+
+    private DoubleNdBuffer a;
+    private DoubleNdBuffer b;
+    private DoubleNdBuffer dst;
+
+    @Setup
+    public void setup() {
+        var shape = new Shape(N, N);
+        a = ndFactory.ndBuffer(shape, new double[N * N]);
+        b = ndFactory.ndBuffer(shape, new double[N * N]);
+        dst = ndFactory.ndBuffer(shape, new double[N * N]);
+    }
+
+    @Benchmark
+    public void add_sequential() {
+        math.add(a, b, dst);
+    }
+
+    @Benchmark
+    public void add_parallel() {
+        parallelMath.add(a, b, dst);
+    }
+
+    @Benchmark
+    public void copy_sequential() {
+        math.copy(a, dst);
+    }
+
+    @Benchmark
+    public void copy_parallel() {
+        parallelMath.copy(a, dst);
+    }
+
+    @Benchmark
+    public void fill_sequential() {
+        math.fill(dst, 1);
+    }
+
+    @Benchmark
+    public void fill_parallel() {
+        parallelMath.fill(dst, 1);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.benchmarks;
+
+import id.ndbuffers.DoubleNdBuffer;
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Copy between ndbuffers with consecutive and nested (strided) layouts.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Thread)
+public class NdCopyBenchmark {
+    private static final int SIZE = 512;
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+
+    private DoubleNdBuffer src;
+    private DoubleNdBuffer dst;
+    private DoubleNdBuffer block;
+    private DoubleNdBuffer stepped;
+    private DoubleNdBuffer smallDst;
+
+    @Setup
+    public void setup() {
+        var shape = new Shape(SIZE, SIZE);
+        src = ndFactory.ndBuffer(shape, new double[SIZE * SIZE]);
+        dst = ndFactory.ndBuffer(shape, new double[SIZE * SIZE]);
+        block =
+                ndFactory.matrixNd(
+                        NSlice.of("0:%d".formatted(SIZE / 2), "0:%d".formatted(SIZE / 2)), src);
+        stepped =
+                ndFactory.matrixNd(
+                        NSlice.of("0:%d:2".formatted(SIZE), "0:%d:2".formatted(SIZE)), src);
+        smallDst = ndFactory.ndBuffer(new Shape(SIZE / 2, SIZE / 2), new double[SIZE * SIZE / 4]);
+    }
+
+    /** Source and destination are consecutive so everything is copied in bulk at once */
+    @Benchmark
+    public void copy_consecutive() {
+        src.copyTo(dst, 0, 0);
+    }
+
+    /** Block inside larger ndbuffer is copied into the block inside the destination */
+    @Benchmark
+    public void copy_nested() {
+        block.copyTo(dst, SIZE / 4, SIZE / 4);
+    }
+
+    /** Block inside larger ndbuffer is copied into consecutive ndbuffer */
+    @Benchmark
+    public void copy_nested_to_consecutive() {
+        block.copyTo(smallDst, 0, 0);
+    }
+
+    /** Every other item in both dimensions */
+    @Benchmark
+    public void copy_stepped() {
+        stepped.copyTo(smallDst, 0, 0);
+    }
+
+    /** Transposed view is copied in tiles */
+    @Benchmark
+    public void copy_transposed() {
+        src.transpose().copyTo(dst, 0, 0);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.benchmarks;
+
+import id.ndbuffers.Shape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+@State(Scope.Thread)
+public class ShapeBenchmark {
+    private final Shape shape = new Shape(16, 64, 64);
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        shape.iterate().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void iterate_parallel(Blackhole blackhole) {
+        shape.iterate().parallel().forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void forEachIndex(Blackhole blackhole) {
+        shape.forEachIndex((index, offset) -> blackhole.consume(offset));
+    }
+
+    @Benchmark
+    public int size() {
+        return shape.size();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import id.ndbuffers.AtomicDoubleNdBuffer;
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.Shape;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class AtomicDoubleNdBufferTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils();
+
+    @Test
+    public void test() {
+        var data = new double[6];
+        var a = new AtomicDoubleNdBuffer(ndFactory.ndBuffer(new Shape(2, 3), data).transpose());
+        assertEquals(new Shape(3, 2), a.shape());
+        assertEquals(0, a.getAndAdd(1.5, 2, 1));
+        assertEquals(1.5, data[5]);
+        assertTrue(a.compareAndSet(1.5, 4, 2, 1));
+        assertFalse(a.compareAndSet(1.5, 5, 2, 1));
+        a.setRelease(-1, 0, 1);
+        assertEquals(-1, a.getVolatile(0, 1));
+        assertEquals(
+                """
+                { "data" : [
+                 [0, 0, 0],
+                 [-1, 0, 4]
+                ] }""",
+                jsonUtils.dumpAsJson(ndFactory.ndBuffer(new Shape(2, 3), data)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new AtomicDoubleNdBuffer(ndFactory.directNdBuffer(new Shape(2))));
+    }
+
+    @Test
+    public void test_concurrent() {
+        var grid = new AtomicDoubleNdBuffer(ndFactory.ndBuffer(new Shape(4, 4), new double[16]));
+        var direct =
+                new AtomicDoubleNdBuffer(
+                        new Shape(4, 4),
+                        ByteBuffer.allocateDirect(16 * Double.BYTES).order(ByteOrder.BIG_ENDIAN));
+        IntStream.range(0, 100_000)
+                .parallel()
+                .forEach(
+                        i -> {
+                            grid.getAndAdd(0.5, i % 4, i % 3);
+                            direct.getAndAdd(0.5, i % 4, i % 3);
+                        });
+        for (var a : new AtomicDoubleNdBuffer[] {grid, direct}) {
+            assertEquals(
+                    50_000, IntStream.range(0, 16).mapToDouble(i -> a.get(i / 4, i % 4)).sum());
+            assertEquals(0, a.get(0, 3));
+        }
+        var view = ndFactory.matrixNd(NSlice.of("1:3", "0:2"), direct);
+        assertEquals(direct.get(1, 0), view.get(0, 0));
+    }
+}
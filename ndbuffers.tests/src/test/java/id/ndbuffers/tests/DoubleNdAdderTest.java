@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.DoubleNdAdder;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.Shape;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class DoubleNdAdderTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils();
+
+    @Test
+    public void test() throws Exception {
+        var adder = new DoubleNdAdder(new Shape(2, 3), 3);
+        assertEquals(
+                """
+                { "data" : [
+                 [0, 0, 0],
+                 [0, 0, 0]
+                ] }""",
+                jsonUtils.dumpAsJson(adder.sum()));
+        var pool = new ForkJoinPool(8);
+        try {
+            pool.submit(
+                            () ->
+                                    IntStream.range(0, 60_000)
+                                            .parallel()
+                                            .forEach(i -> adder.add(1, i % 2, i % 3)))
+                    .get();
+        } finally {
+            pool.shutdown();
+        }
+        adder.add(-0.5, 1, 2);
+        assertEquals(
+                """
+                { "data" : [
+                 [10000, 10000, 10000],
+                 [10000, 10000, 9999.5]
+                ] }""",
+                jsonUtils.dumpAsJson(adder.sum()));
+        var transposed = ndFactory.ndBuffer(new Shape(3, 2), new double[6]).transpose();
+        adder.sumTo(transposed);
+        assertEquals(jsonUtils.dumpAsJson(adder.sum()), jsonUtils.dumpAsJson(transposed));
+        adder.reset();
+        assertEquals(0, adder.sum().get(1, 2));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> adder.sumTo(ndFactory.ndBuffer(new Shape(3, 2), new double[6])));
+        assertThrows(IllegalArgumentException.class, () -> new DoubleNdAdder(new Shape(2), 0));
+    }
+}
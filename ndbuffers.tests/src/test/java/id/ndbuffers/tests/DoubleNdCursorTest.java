@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.NdBuffersJsonUtils.Option;
+import id.ndbuffers.Shape;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class DoubleNdCursorTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils(Option.COMPACT);
+
+    @Test
+    public void test() {
+        var data = IntStream.range(0, 24).asDoubleStream().toArray();
+        var a = ndFactory.ndBuffer(new Shape(2, 3, 4), data);
+        var cursor = a.cursor();
+        var count = 0;
+        while (cursor.hasNext()) {
+            var v = cursor.nextDouble();
+            assertEquals(count++, v);
+            assertEquals(a.get(cursor.index(0), cursor.index(1), cursor.index(2)), v);
+        }
+        assertEquals(24, count);
+        assertThrows(NoSuchElementException.class, cursor::nextDouble);
+
+        cursor.reset();
+        assertEquals(0, cursor.nextDouble());
+        cursor.set(-1);
+        assertEquals(-1, data[0]);
+    }
+
+    @Test
+    public void test_view() {
+        var data = IntStream.range(0, 16).asDoubleStream().toArray();
+        var a = ndFactory.ndBuffer(new Shape(4, 4), data);
+        // every other column in the reverse order of rows
+        var cursor = a.slice("::-1", "1::2").cursor();
+        var items = new StringBuilder();
+        while (cursor.hasNext()) {
+            var v = cursor.nextDouble();
+            items.append("(%d,%d)=%d ".formatted(cursor.index(0), cursor.index(1), (int) v));
+            cursor.set(v * 10);
+        }
+        assertEquals(
+                "(0,0)=13 (0,1)=15 (1,0)=9 (1,1)=11 (2,0)=5 (2,1)=7 (3,0)=1 (3,1)=3 ",
+                items.toString());
+        assertEquals(
+                "{\"data\":[[0,10,2,30],[4,50,6,70],[8,90,10,110],[12,130,14,150]]}",
+                jsonUtils.dumpAsJson(a));
+
+        // transposed view goes over the items of each column
+        var transposed = ndFactory.ndBuffer(new Shape(2, 3), new double[] {1, 2, 3, 4, 5, 6});
+        var sum = new StringBuilder();
+        transposed.transpose().cursor().forEachRemaining((double v) -> sum.append((int) v));
+        assertEquals("142536", sum.toString());
+    }
+
+    @Test
+    public void test_out_of_bounds() {
+        var a = ndFactory.ndBuffer(new Shape(4, 4), new double[16]);
+        var view = ndFactory.matrixNd(NSlice.of("2:5", "0:3"), a);
+        assertThrows(ArrayIndexOutOfBoundsException.class, view::cursor);
+        var single = ndFactory.ndBuffer(new Shape(1), new double[] {7}).cursor();
+        assertEquals(7, single.nextDouble());
+        assertFalse(single.hasNext());
+    }
+
+    @Test
+    public void test_not_started() {
+        var a = ndFactory.ndBuffer(new Shape(2, 2), new double[] {1, 2, 3, 4});
+        var cursor = a.cursor();
+        assertThrows(IllegalStateException.class, cursor::get);
+        assertThrows(IllegalStateException.class, () -> cursor.set(5));
+        assertThrows(IllegalStateException.class, () -> cursor.index(0));
+        cursor.nextDouble();
+        cursor.set(5);
+        assertEquals(5, cursor.get());
+        cursor.reset();
+        assertThrows(IllegalStateException.class, cursor::get);
+        assertEquals(5, cursor.nextDouble());
+        assertEquals(2, a.get(0, 1));
+    }
+}
@@ -17,9 +17,12 @@
  */
 package id.ndbuffers.tests;
 
+import id.ndbuffers.NSlice;
 import id.ndbuffers.NdBuffersFactory;
 import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.Slice;
 import id.ndbuffers.matrix.Vector3d;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -48,4 +51,82 @@ public class MatrixTest {
 ] }""",
                 jsonUtils.dumpAsJson(ndFactory.matrixN3d(ndFactory.matrix3d().getVectorView(0))));
     }
+
+    @Test
+    public void test_multiply() {
+        var a =
+                ndFactory.matrixNd(
+                        Slice.of("0:2"),
+                        Slice.of("0:3"),
+                        new double[] {
+                            1, 2, 3,
+                            4, 5, 6
+                        });
+        var b =
+                ndFactory.matrix3d(
+                        new double[] {
+                            1, 0, 2,
+                            0, 1, 0,
+                            -1, 0, 1
+                        });
+        var c = ndFactory.matrixNd(Slice.of("0:2"), Slice.of("0:3"), new double[6]);
+        a.multiply(b, c);
+        Assertions.assertEquals(
+                """
+{ "data" : [
+ [-2, 2, 5],
+ [-2, 5, 14]
+] }""",
+                jsonUtils.dumpAsJson(c));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> b.multiply(a, c));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> b.multiply(b, b));
+    }
+
+    @Test
+    public void test_multiply_large() {
+        var n = 37;
+        var k = 300;
+        var data = IntStream.range(0, n * k).mapToDouble(i -> i % 7 - 3).toArray();
+        var a = ndFactory.matrixNd(new Slice(0, n, 1), new Slice(0, k, 1), data);
+        var b = ndFactory.matrixNd(new Slice(0, k, 1), new Slice(0, n, 1), data);
+        // every other row of a
+        var aView = ndFactory.matrixNd(new NSlice(new Slice(0, n, 2), new Slice(0, k, 1)), a);
+        var c = ndFactory.matrixNd(new Slice(0, 19, 1), new Slice(0, n, 1), new double[19 * n]);
+        aView.multiply(b, c);
+        for (int i = 0; i < 19; i++) {
+            for (int j = 0; j < n; j++) {
+                var expected = 0.;
+                for (int p = 0; p < k; p++) expected += aView.get(i, p) * b.get(p, j);
+                Assertions.assertEquals(expected, c.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void test_multiply_into_same_array() {
+        var base =
+                ndFactory.matrixNd(
+                        Slice.of("0:4"),
+                        Slice.of("0:8"),
+                        IntStream.range(0, 32).mapToDouble(i -> i).toArray());
+        var identity = ndFactory.matrixNd(Slice.of("0:4"), Slice.of("0:4"), new double[16]);
+        for (int i = 0; i < 4; i++) identity.set(1, i, i);
+        var a = ndFactory.matrixNd(NSlice.of("0:4", "0:4"), base);
+        var c = ndFactory.matrixNd(NSlice.of("0:4", "4:8"), base);
+        a.multiply(identity, c);
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) Assertions.assertEquals(a.get(i, j), c.get(i, j));
+        }
+        // columns 3:7 share column 3 with a
+        var overlapping = ndFactory.matrixNd(NSlice.of("0:4", "3:7"), base);
+        Assertions.assertThrows(
+                IllegalArgumentException.class, () -> a.multiply(identity, overlapping));
+        // every other column, interleaved with c
+        var even = ndFactory.matrixNd(NSlice.of("0:4", "0:8:2"), base);
+        var odd = ndFactory.matrixNd(NSlice.of("0:4", "1:8:2"), base);
+        even.multiply(identity, odd);
+        for (int i = 0; i < 4; i++) {
+            for (int j = 0; j < 4; j++) Assertions.assertEquals(even.get(i, j), odd.get(i, j));
+        }
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersBinaryUtils;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.NdBuffersMath;
+import id.ndbuffers.Shape;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersBinaryUtilsTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils();
+    private static final NdBuffersBinaryUtils binaryUtils = new NdBuffersBinaryUtils();
+
+    @Test
+    public void test() throws IOException {
+        var out = new ByteArrayOutputStream();
+        var a = ndFactory.ndBuffer(new Shape(2, 3), new double[] {1, 2, 3, 4, 5, 6});
+        binaryUtils.write(a, Channels.newChannel(out));
+        var bytes = out.toByteArray();
+        assertEquals(64 + 6 * Double.BYTES, bytes.length);
+        assertEquals(
+                6, ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getDouble(64 + 5 * 8));
+        var b = binaryUtils.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+        assertEquals(a.shape(), b.shape());
+        assertEquals(jsonUtils.dumpAsJson(a), jsonUtils.dumpAsJson(b));
+    }
+
+    @Test
+    public void test_view() throws IOException {
+        var mx =
+                ndFactory.ndBuffer(
+                        new Shape(3, 4), new double[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        var out = new ByteArrayOutputStream();
+        var channel = Channels.newChannel(out);
+        binaryUtils.write(ndFactory.matrixNd(NSlice.of("0:3:2", "1:4:2"), mx), channel);
+        binaryUtils.write(mx.transpose(), channel);
+        var in = Channels.newChannel(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(
+                """
+                { "data" : [
+                 [2, 4],
+                 [10, 12]
+                ] }""",
+                jsonUtils.dumpAsJson(binaryUtils.read(in)));
+        assertEquals(
+                jsonUtils.dumpAsJson(mx.transpose()), jsonUtils.dumpAsJson(binaryUtils.read(in)));
+    }
+
+    @Test
+    public void test_large() throws IOException {
+        // spans several chunks
+        var data = new double[100_003];
+        for (int i = 0; i < data.length; i++) data[i] = i * 0.5;
+        var out = new ByteArrayOutputStream();
+        binaryUtils.write(ndFactory.ndBuffer(data), Channels.newChannel(out));
+        var b = binaryUtils.read(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        var actual = new double[data.length];
+        new NdBuffersMath().copy(b, ndFactory.ndBuffer(actual));
+        assertArrayEquals(data, actual);
+    }
+
+    @Test
+    public void test_truncated() throws IOException {
+        var out = new ByteArrayOutputStream();
+        binaryUtils.write(ndFactory.ndBuffer(new double[] {1, 2, 3}), Channels.newChannel(out));
+        var bytes = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        assertThrows(
+                IOException.class,
+                () -> binaryUtils.read(Channels.newChannel(new ByteArrayInputStream(bytes))));
+        assertThrows(
+                IOException.class,
+                () ->
+                        binaryUtils.read(
+                                Channels.newChannel(new ByteArrayInputStream(new byte[100]))));
+    }
+
+    @Test
+    public void test_corrupted_header() {
+        // negative, zero and huge number of dimensions
+        assertCorrupted(-1);
+        assertCorrupted(0);
+        assertCorrupted(1 << 30);
+        // negative and zero dimensions
+        assertCorrupted(2, -3, 4);
+        assertCorrupted(2, 3, 0);
+        // number of items overflows int
+        assertCorrupted(2, 70000, 70000);
+    }
+
+    @Test
+    public void test_missing_items() {
+        // header of 2^30 items without any items following it
+        var header = ByteBuffer.allocate(64);
+        header.put(new byte[] {'N', 'D', 'B', 'F', 1, 0, 1, 0});
+        header.putInt(2).putInt(1 << 15).putInt(1 << 15);
+        var bytes = header.array();
+        assertThrows(
+                IOException.class,
+                () -> binaryUtils.read(Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    public void test_unknown_byte_order() throws IOException {
+        var out = new ByteArrayOutputStream();
+        binaryUtils.write(ndFactory.ndBuffer(new double[] {1, 2, 3}), Channels.newChannel(out));
+        var bytes = out.toByteArray();
+        // byte order follows the magic and the version
+        bytes[5] = 2;
+        assertThrows(
+                IOException.class,
+                () -> binaryUtils.read(Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+
+    private void assertCorrupted(int rank, int... dims) {
+        var header = ByteBuffer.allocate(64);
+        header.put(new byte[] {'N', 'D', 'B', 'F', 1, 0, 1, 0});
+        header.putInt(rank);
+        for (var d : dims) header.putInt(d);
+        var bytes = header.array();
+        assertThrows(
+                IOException.class,
+                () -> binaryUtils.read(Channels.newChannel(new ByteArrayInputStream(bytes))));
+    }
+}
@@ -20,6 +20,7 @@ package id.ndbuffers.tests;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import id.ndbuffers.DoubleNdBuffer;
+import id.ndbuffers.NSlice;
 import id.ndbuffers.NdBuffersFactory;
 import id.ndbuffers.NdBuffersJsonUtils;
 import id.ndbuffers.Shape;
@@ -276,6 +277,56 @@ public class NdBuffersCopyToTest {
                          [30, 31, 32],
                          [40, 41, 42],
                          [50, 51, 52]
+                        ] }"""),
+                // Copy from the stepped view (source is not consecutive)
+                new TestCase(
+                        ndFactory.matrixNd(
+                                NSlice.of("0:6:2", "0:3"),
+                                ndFactory.matrixN3d(
+                                        new double[] {
+                                            10, 11, 12,
+                                            20, 21, 22,
+                                            30, 31, 32,
+                                            40, 41, 42,
+                                            50, 51, 52,
+                                            60, 61, 62
+                                        })),
+                        ndFactory.matrix3d(),
+                        new int[] {0, 0},
+                        """
+                        { "data" : [
+                         [10, 11, 12],
+                         [30, 31, 32],
+                         [50, 51, 52]
+                        ] }"""),
+                // Copy column of the matrix into the column block of the destination
+                new TestCase(
+                        ndFactory.matrixNd(
+                                NSlice.of("0:3", "1:2"),
+                                ndFactory.matrix3d(
+                                        new double[] {
+                                            1, 2, 3,
+                                            4, 5, 6,
+                                            7, 8, 9
+                                        })),
+                        ndFactory.ndBuffer(new Shape(3, 4), new double[12]),
+                        new int[] {0, 2},
+                        """
+                        { "data" : [
+                         [0, 0, 2, 0],
+                         [0, 0, 5, 0],
+                         [0, 0, 8, 0]
+                        ] }"""),
+                // Copy into the stepped view of the destination
+                new TestCase(
+                        ndFactory.ndBuffer(new Shape(2, 2), new double[] {1, 2, 3, 4}),
+                        ndFactory.matrixNd(
+                                NSlice.of("0:4:2", "0:4:2"), ndFactory.matrix4d(new double[16])),
+                        new int[] {0, 0},
+                        """
+                        { "data" : [
+                         [1, 2],
+                         [3, 4]
                         ] }"""));
     }
 
@@ -19,12 +19,15 @@ package id.ndbuffers.tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import id.ndbuffers.NSlice;
 import id.ndbuffers.NdBuffersFactory;
 import id.ndbuffers.NdBuffersJsonUtils;
 import id.ndbuffers.Shape;
 import id.ndbuffers.Slice;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
@@ -113,8 +116,9 @@ public class NdBuffersExamplesTest {
         var mx1 = ndFactory.matrixNd(NSlice.of("0:1:1", "0:3:1"), vector3d);
         assertEquals(1, mx1.get(0, 0));
 
-        var mx2 = ndFactory.matrixNd(NSlice.of("1:2:1", "0:3:1"), vector3d);
-        assertThrows(IllegalArgumentException.class, () -> mx2.get(0, 0));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ndFactory.matrixNd(NSlice.of("1:2:1", "0:3:1"), vector3d));
     }
 
     @Test
@@ -191,4 +195,19 @@ public class NdBuffersExamplesTest {
                  ] }""",
                 jsonUtils.dumpAsJson(buf4d));
     }
+
+    @Test
+    public void test_native_memory() {
+        var buf = ndFactory.directNdBuffer(new Shape(2, 3));
+        assertTrue(buf.duplicate().isDirect());
+        buf.set(5, 1, 2);
+        assertEquals(5, buf.get(1, 2));
+
+        var bytes = ByteBuffer.allocate(4 * Double.BYTES).order(ByteOrder.BIG_ENDIAN);
+        bytes.putDouble(3 * Double.BYTES, 7);
+        var mx = ndFactory.ndBuffer(new Shape(2, 2), bytes);
+        assertEquals(7, mx.get(1, 1));
+        mx.set(-1, 0, 1);
+        assertEquals(-1, bytes.getDouble(Double.BYTES));
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.NdBuffersJsonUtils.Option;
+import id.ndbuffers.Shape;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersJsonUtilsTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils();
+
+    @Test
+    public void test_stream() throws IOException {
+        var data = IntStream.range(0, 5000).mapToDouble(i -> i / 7.).toArray();
+        var a = ndFactory.ndBuffer(new Shape(10, 25, 20), data);
+        var out = new StringWriter();
+        jsonUtils.dumpAsJson(a.transpose(), out);
+        assertEquals(jsonUtils.dumpAsJson(a.transpose()), out.toString());
+    }
+
+    @Test
+    public void test_format() {
+        var a =
+                ndFactory.ndBuffer(
+                        new Shape(8),
+                        new double[] {
+                            1. / 3, -0.000001, 0.000015, 1e20, -2.5, 0.1 + 0.2, Double.NaN, -1e-20
+                        });
+        assertEquals(
+                """
+                { "data" : [
+                 [0.33333, 0, 0.00002, 100000000000000000000, -2.5, 0.3, NaN, 0]
+                ] }""",
+                jsonUtils.dumpAsJson(a));
+        assertEquals(
+                """
+                {"data":[0.3333333333333333,-1.0E-6,1.5E-5,1.0E20,-2.5,0.30000000000000004,NaN,-1.0E-20]}""",
+                new NdBuffersJsonUtils(Option.COMPACT, Option.ROUND_TRIP).dumpAsJson(a));
+    }
+
+    @Test
+    public void test_compact() {
+        var utils = new NdBuffersJsonUtils(Option.COMPACT);
+        var data = IntStream.range(0, 12).asDoubleStream().toArray();
+        assertEquals(
+                "{\"data\":[0,1,2,3]}", utils.dumpAsJson(ndFactory.ndBuffer(new Shape(4), data)));
+        assertEquals(
+                "{\"data\":[[[0,1,2],[3,4,5]],[[6,7,8],[9,10,11]]]}",
+                utils.dumpAsJson(ndFactory.ndBuffer(new Shape(2, 2, 3), data)));
+    }
+
+    @Test
+    public void test_read() throws IOException {
+        var data = IntStream.range(0, 24).mapToDouble(i -> i / 3.).toArray();
+        var a = ndFactory.ndBuffer(new Shape(2, 3, 4), data);
+        var json = jsonUtils.dumpAsJson(a);
+        var b = jsonUtils.readJson(new StringReader(json));
+        assertEquals(a.shape(), b.shape());
+        assertEquals(json, jsonUtils.dumpAsJson(b));
+
+        var utils = new NdBuffersJsonUtils(Option.COMPACT, Option.ROUND_TRIP);
+        var c = utils.readJson(utils.dumpAsJson(a.transpose()));
+        assertEquals(new Shape(4, 3, 2), c.shape());
+        assertEquals(utils.dumpAsJson(a.transpose()), utils.dumpAsJson(c));
+        assertEquals(data[12], c.get(0, 0, 1));
+
+        var d = jsonUtils.readJson("[1.5e2, -0.25, 1E-3, NaN]");
+        assertEquals(new Shape(4), d.shape());
+        assertArrayEquals(
+                new double[] {150, -0.25, 0.001, Double.NaN},
+                IntStream.range(0, 4).mapToDouble(d::get).toArray());
+        assertEquals(
+                new Shape(1, 4),
+                jsonUtils
+                        .readJson(jsonUtils.dumpAsJson(ndFactory.ndBuffer(new Shape(4), data)))
+                        .shape());
+    }
+
+    @Test
+    public void test_read_malformed() {
+        assertEquals(
+                "Expected array of length 2 but found 1 at position 10",
+                assertThrows(
+                                IllegalArgumentException.class,
+                                () -> jsonUtils.readJson("[[1,2],[3]]"))
+                        .getMessage());
+        assertThrows(IllegalArgumentException.class, () -> jsonUtils.readJson("[[1,2],3]"));
+        assertThrows(IllegalArgumentException.class, () -> jsonUtils.readJson("[[]]"));
+        assertThrows(IllegalArgumentException.class, () -> jsonUtils.readJson("[1 2]"));
+        assertThrows(IllegalArgumentException.class, () -> jsonUtils.readJson("[1, 2]]"));
+        assertThrows(IllegalArgumentException.class, () -> jsonUtils.readJson("{ \"x\" : [1] }"));
+        assertThrows(IOException.class, () -> jsonUtils.readJson(new StringReader("[1, 2")));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.Shape;
+import java.io.IOException;
+import java.nio.ReadOnlyBufferException;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersMappedFileTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils();
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void test() throws IOException {
+        var file = tempDir.resolve("test.ndbuf");
+        var buf = ndFactory.createMappedNdBuffer(file, new Shape(2, 3));
+        ndFactory.ndBuffer(new Shape(2, 3), new double[] {1, 2, 3, 4, 5, 6}).copyTo(buf, 0, 0);
+        assertEquals(64 + 6 * Double.BYTES, Files.size(file));
+
+        var readOnly = ndFactory.openMappedNdBuffer(file, MapMode.READ_ONLY);
+        assertEquals(new Shape(2, 3), readOnly.shape());
+        assertEquals(
+                """
+                { "data" : [
+                 [1, 2, 3],
+                 [4, 5, 6]
+                ] }""",
+                jsonUtils.dumpAsJson(readOnly));
+        assertThrows(ReadOnlyBufferException.class, () -> readOnly.set(0, 0, 0));
+
+        var readWrite = ndFactory.openMappedNdBuffer(file, MapMode.READ_WRITE);
+        readWrite.set(-1, 1, 2);
+        assertEquals(-1, readOnly.get(1, 2));
+    }
+
+    @Test
+    public void test_not_ndbuffer_file() throws IOException {
+        var file = tempDir.resolve("test.txt");
+        Files.writeString(file, "hello world");
+        assertThrows(
+                IOException.class, () -> ndFactory.openMappedNdBuffer(file, MapMode.READ_ONLY));
+    }
+
+    @Test
+    public void test_truncated_file() throws IOException {
+        var file = tempDir.resolve("test.ndbuf");
+        ndFactory.createMappedNdBuffer(file, new Shape(2, 3));
+        var bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - Double.BYTES));
+        // mapping it for writing would silently extend the file
+        assertThrows(
+                IOException.class, () -> ndFactory.openMappedNdBuffer(file, MapMode.READ_WRITE));
+        assertEquals(bytes.length - Double.BYTES, Files.size(file));
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.DoubleNdBufferView;
+import id.ndbuffers.IntNdBuffer;
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.NdBuffersMath;
+import id.ndbuffers.Shape;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersMathTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils();
+    private static final NdBuffersMath math = new NdBuffersMath();
+
+    @Test
+    public void test_arrays() {
+        var shape = new Shape(2, 3);
+        var a = ndFactory.ndBuffer(shape, new double[] {1, 2, 3, 4, 5, 6});
+        var b = ndFactory.ndBuffer(shape, new double[] {6, 5, 4, 3, 2, 1});
+        var dstData = new double[6];
+        var dst = ndFactory.ndBuffer(shape, dstData);
+        math.add(a, b, dst);
+        assertArrayEquals(new double[] {7, 7, 7, 7, 7, 7}, dstData);
+        math.sub(a, b, dst);
+        assertArrayEquals(new double[] {-5, -3, -1, 1, 3, 5}, dstData);
+        math.mul(a, b, dst);
+        assertArrayEquals(new double[] {6, 10, 12, 12, 10, 6}, dstData);
+        math.div(dst, 2);
+        assertArrayEquals(new double[] {3, 5, 6, 6, 5, 3}, dstData);
+        math.scale(dst, -1);
+        assertArrayEquals(new double[] {-3, -5, -6, -6, -5, -3}, dstData);
+        math.fma(a, b, dst, dst);
+        assertArrayEquals(new double[] {3, 5, 6, 6, 5, 3}, dstData);
+        math.fma(a, 10, b, dst);
+        assertArrayEquals(new double[] {16, 25, 34, 43, 52, 61}, dstData);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> math.add(a, ndFactory.ndBuffer(new double[6]), dst));
+    }
+
+    @Test
+    public void test_strided() {
+        var mx =
+                ndFactory.matrix4d(
+                        new double[] {
+                            1, 2, 3, 4,
+                            5, 6, 7, 8,
+                            9, 10, 11, 12,
+                            13, 14, 15, 16
+                        });
+        var corners = ndFactory.matrixNd(NSlice.of("0:4:3", "0:4:3"), mx);
+        var block = ndFactory.matrixNd(NSlice.of("1:3", "1:3"), mx);
+        math.add(block, corners);
+        assertEquals(
+                """
+                { "data" : [
+                 [1, 2, 3, 4],
+                 [5, 7, 11, 8],
+                 [9, 23, 27, 12],
+                 [13, 14, 15, 16]
+                ] }""",
+                jsonUtils.dumpAsJson(mx));
+        var direct = ndFactory.directNdBuffer(new Shape(2, 2));
+        math.sub(block, 1, direct);
+        math.mul(direct, corners, direct);
+        assertEquals(
+                """
+                { "data" : [
+                 [6, 40],
+                 [286, 416]
+                ] }""",
+                jsonUtils.dumpAsJson(direct));
+    }
+
+    @Test
+    public void test_compare() {
+        var a = ndFactory.ndBuffer(new double[] {1, 2, 3, 4});
+        var b = ndFactory.ndBuffer(new double[] {4, 2, 2, 1});
+        var mask = new byte[4];
+        var dst = ndFactory.ndBuffer(new Shape(4), mask);
+        math.lessThan(a, b, dst);
+        assertArrayEquals(new byte[] {1, 0, 0, 0}, mask);
+        math.greaterThan(a, b, dst);
+        assertArrayEquals(new byte[] {0, 0, 1, 1}, mask);
+        math.equal(a, b, dst);
+        assertArrayEquals(new byte[] {0, 1, 0, 0}, mask);
+        math.greaterThan(a, 2, dst);
+        assertArrayEquals(new byte[] {0, 0, 1, 1}, mask);
+    }
+
+    @Test
+    public void test_parallel() {
+        var pool = new ForkJoinPool(4);
+        try {
+            var parallelMath = new NdBuffersMath(pool, 16);
+            var shape = new Shape(7, 9, 11);
+            var size = shape.size();
+            var aData = new double[size];
+            var bData = new double[size];
+            for (int i = 0; i < size; i++) {
+                aData[i] = i;
+                bData[i] = size - i;
+            }
+            var a = ndFactory.ndBuffer(shape, aData);
+            var b = ndFactory.ndBuffer(shape, bData);
+            var expected = new double[size];
+            var actual = new double[size];
+            math.fma(a, b, a, ndFactory.ndBuffer(shape, expected));
+            parallelMath.fma(a, b, a, ndFactory.ndBuffer(shape, actual));
+            assertArrayEquals(expected, actual);
+
+            parallelMath.fill(ndFactory.ndBuffer(shape, actual), 5);
+            Arrays.fill(expected, 5);
+            assertArrayEquals(expected, actual);
+
+            // strided destination
+            var dst = ndFactory.ndBuffer(new Shape(7, 9, 22), new double[size * 2]);
+            var view = new DoubleNdBufferView(shape, NSlice.of("0:7", "0:9", "1:22:2"), dst);
+            parallelMath.copy(a, view);
+            parallelMath.add(view, 1);
+            math.add(a, 1, ndFactory.ndBuffer(shape, expected));
+            var copy = new double[size];
+            math.copy(view, ndFactory.ndBuffer(shape, copy));
+            assertArrayEquals(expected, copy);
+            assertEquals(0, dst.get(6, 8, 20));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_reductions() {
+        var a = ndFactory.ndBuffer(new Shape(2, 3), new double[] {1, -2, 3, 7, 5, 7});
+        assertEquals(21, math.sum(a));
+        assertEquals(3.5, math.mean(a));
+        assertEquals(-2, math.min(a));
+        assertEquals(7, math.max(a));
+        assertEquals(Math.sqrt(137), math.norm(a));
+        assertArrayEquals(new int[] {1, 0}, math.argmax(a));
+        var column = ndFactory.matrixNd(NSlice.of("0:2", "1:3:2"), a);
+        assertEquals(3, math.sum(column));
+        assertArrayEquals(new int[] {1, 0}, math.argmax(column));
+        a.set(Double.NaN, 1, 1);
+        assertEquals(Double.NaN, math.max(a));
+        assertArrayEquals(new int[] {1, 1}, math.argmax(a));
+
+        // compensated summation, naive summation is off by ~0.004
+        var data = new double[10_001];
+        Arrays.fill(data, 0.1);
+        data[0] = 1e10;
+        assertEquals(1e10 + 1000, math.sum(ndFactory.ndBuffer(data)), 1e-4);
+    }
+
+    @Test
+    public void test_reductions_axis() {
+        var points = ndFactory.matrixN3d(new double[] {1, 2, 3, 3, 6, 9, 5, 4, 0, -1, 0, 0});
+        var mean = math.mean(points, 0, false);
+        assertEquals(new Shape(3), mean.shape());
+        assertEquals(
+                """
+                { "data" : [
+                 [2, 3, 3]
+                ] }""",
+                jsonUtils.dumpAsJson(mean));
+        var min = math.min(points, 0, true);
+        assertEquals(new Shape(1, 3), min.shape());
+        assertEquals(
+                """
+                { "data" : [
+                 [-1, 0, 0]
+                ] }""",
+                jsonUtils.dumpAsJson(min));
+        assertEquals(
+                """
+                { "data" : [
+                 [5, 6, 9]
+                ] }""",
+                jsonUtils.dumpAsJson(math.max(points, -2, false)));
+        var sum = math.sum(points, 1, true);
+        assertEquals(new Shape(4, 1), sum.shape());
+        assertEquals(
+                """
+                { "data" : [
+                 [6],
+                 [18],
+                 [9],
+                 [-1]
+                ] }""",
+                jsonUtils.dumpAsJson(sum));
+        var argmax = math.argmax(points, 1, false);
+        assertEquals(new Shape(4), argmax.shape());
+        assertArrayEquals(new int[] {2, 2, 0, 1}, toArray(argmax));
+        argmax = math.argmax(points, 0, true);
+        assertEquals(new Shape(1, 3), argmax.shape());
+        assertArrayEquals(new int[] {2, 1, 1}, toArray(argmax));
+        var norm = math.norm(ndFactory.ndBuffer(new double[] {3, 4}), 0, false);
+        assertEquals(new Shape(1), norm.shape());
+        assertEquals(5, norm.get(0));
+        var cube =
+                ndFactory.ndBuffer(
+                        new Shape(2, 3, 2), new double[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        assertEquals(
+                """
+                { "data" : [
+                 [3, 4],
+                 [9, 10]
+                ] }""",
+                jsonUtils.dumpAsJson(math.mean(cube, 1, false)));
+        assertThrows(IllegalArgumentException.class, () -> math.sum(cube, 3, false));
+    }
+
+    @Test
+    public void test_reductions_parallel() {
+        var pool = new ForkJoinPool(4);
+        try {
+            var parallelMath = new NdBuffersMath(pool, 16);
+            var shape = new Shape(9, 7, 11);
+            var data = new double[shape.size()];
+            for (int i = 0; i < data.length; i++) data[i] = (i * 37) % 101;
+            data[500] = 1000;
+            var a = ndFactory.ndBuffer(shape, data);
+            assertEquals(math.sum(a), parallelMath.sum(a));
+            assertEquals(math.min(a), parallelMath.min(a));
+            assertArrayEquals(math.argmax(a), parallelMath.argmax(a));
+            for (int axis = 0; axis < 3; axis++) {
+                assertEquals(
+                        jsonUtils.dumpAsJson(math.sum(a, axis, false)),
+                        jsonUtils.dumpAsJson(parallelMath.sum(a, axis, false)));
+                assertArrayEquals(
+                        toArray(math.argmax(a, axis, false)),
+                        toArray(parallelMath.argmax(a, axis, false)));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_reductions_parallel_axis() {
+        var pool = new ForkJoinPool(16);
+        try {
+            var parallelMath = new NdBuffersMath(pool, 256);
+            var shape = new Shape(2, 2000, 64);
+            var data = new double[shape.size()];
+            Arrays.fill(data, 1);
+            var a = ndFactory.ndBuffer(shape, data);
+            for (int i = 0; i < 10; i++) {
+                var sum = parallelMath.sum(a, 1, false);
+                assertEquals(new Shape(2, 64), sum.shape());
+                assertEquals(2000, math.min(sum));
+                assertEquals(2000, math.max(sum));
+                var mean = parallelMath.mean(a, 1, false);
+                assertEquals(1, math.min(mean));
+                assertEquals(1, math.max(mean));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void test_broadcast() {
+        var points = ndFactory.matrixN3d(new double[] {1, 2, 3, 3, 6, 9, 5, 4, 0, -1, 0, 0});
+        var centroid = math.mean(points, 0, false);
+        math.sub(points, centroid);
+        assertEquals(
+                """
+                { "data" : [
+                 [-1, -1, 0],
+                 [1, 3, 6],
+                 [3, 1, -3],
+                 [-3, -3, -3]
+                ] }""",
+                jsonUtils.dumpAsJson(points));
+
+        // per-channel bias of HxWxC image
+        var image = ndFactory.ndBuffer(new Shape(2, 2, 3), new double[12]);
+        math.add(image, ndFactory.ndBuffer(new double[] {1, 2, 3}));
+        assertEquals(
+                """
+                { "data" : [
+                  [
+                   [1, 2, 3],
+                   [1, 2, 3]
+                  ],
+                  [
+                   [1, 2, 3],
+                   [1, 2, 3]
+                  ]
+                 ] }""",
+                jsonUtils.dumpAsJson(image));
+
+        // outer product of the column (2, 1) and the row (3)
+        var column = ndFactory.ndBuffer(new Shape(2, 1), new double[] {1, 10});
+        var row = ndFactory.ndBuffer(new double[] {1, 2, 3});
+        var dst = ndFactory.ndBuffer(new Shape(2, 3), new double[6]);
+        math.mul(column, row, dst);
+        assertEquals(
+                """
+                { "data" : [
+                 [1, 2, 3],
+                 [10, 20, 30]
+                ] }""",
+                jsonUtils.dumpAsJson(dst));
+
+        var repeated = row.broadcastTo(new Shape(2, 3));
+        assertEquals(new Shape(2, 3), repeated.shape());
+        repeated.copyTo(dst);
+        assertEquals(
+                """
+                { "data" : [
+                 [1, 2, 3],
+                 [1, 2, 3]
+                ] }""",
+                jsonUtils.dumpAsJson(dst));
+        assertThrows(IllegalArgumentException.class, () -> math.add(dst, row, row));
+        assertThrows(IllegalArgumentException.class, () -> row.broadcastTo(new Shape(3, 2)));
+    }
+
+    private int[] toArray(IntNdBuffer buffer) {
+        return buffer.shape().iterate().mapToInt(buffer::get).toArray();
+    }
+}
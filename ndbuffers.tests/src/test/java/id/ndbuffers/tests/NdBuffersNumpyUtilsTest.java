@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.DoubleNdBuffer;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.NdBuffersNumpyUtils;
+import id.ndbuffers.Shape;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersNumpyUtilsTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils();
+    private static final NdBuffersNumpyUtils numpyUtils = new NdBuffersNumpyUtils();
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void test_write() throws IOException {
+        var out = new ByteArrayOutputStream();
+        numpyUtils.writeNpy(
+                ndFactory.ndBuffer(new Shape(2, 3), new double[] {0, 1, 2, 3, 4, 5}),
+                Channels.newChannel(out));
+        // numpy.save("a.npy", numpy.arange(6.).reshape(2, 3))
+        assertArrayEquals(npy("<f8", "False", "(2, 3)", 0, 1, 2, 3, 4, 5), out.toByteArray());
+        assertEquals(128 + 6 * Double.BYTES, out.size());
+    }
+
+    @Test
+    public void test_read() throws IOException {
+        var c = numpyUtils.readNpy(channel(npy("<f8", "False", "(2, 3)", 1, 2, 3, 4, 5, 6)));
+        assertEquals(new Shape(2, 3), c.shape());
+        var expected =
+                """
+                { "data" : [
+                 [1, 2, 3],
+                 [4, 5, 6]
+                ] }""";
+        assertEquals(expected, jsonUtils.dumpAsJson(c));
+        // same items stored column by column
+        var fortran = numpyUtils.readNpy(channel(npy("<f8", "True", "(2, 3)", 1, 4, 2, 5, 3, 6)));
+        assertEquals(new Shape(2, 3), fortran.shape());
+        assertEquals(expected, jsonUtils.dumpAsJson(fortran));
+        var vector = numpyUtils.readNpy(channel(npy("<f8", "False", "(3,)", 7, 8, 9)));
+        assertEquals(new Shape(3), vector.shape());
+        assertThrows(
+                IOException.class,
+                () -> numpyUtils.readNpy(channel(npy("<i4", "False", "(2,)", 1))));
+    }
+
+    @Test
+    public void test_read_malformed_shape() {
+        for (var shape : new String[] {"(-3, 4)", "(0,)", "(70000, 70000)", "(2, x)"}) {
+            assertThrows(
+                    IOException.class,
+                    () -> numpyUtils.readNpy(channel(npy("<f8", "False", shape, 1, 2))),
+                    shape);
+        }
+    }
+
+    @Test
+    public void test_read_header_too_long() {
+        // version 2.0 header which claims to be 2GB long
+        var buf = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+        buf.put((byte) 0x93).put("NUMPY".getBytes(StandardCharsets.US_ASCII));
+        buf.put((byte) 2).put((byte) 0).putInt(Integer.MAX_VALUE);
+        assertThrows(IOException.class, () -> numpyUtils.readNpy(channel(buf.array())));
+    }
+
+    @Test
+    public void test_map() throws IOException {
+        var file = tempDir.resolve("a.npy");
+        try (var out =
+                Files.newByteChannel(
+                        file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            numpyUtils.writeNpy(
+                    ndFactory.ndBuffer(new Shape(3, 2), new double[] {1, 2, 3, 4, 5, 6}), out);
+        }
+        var mapped = numpyUtils.mapNpy(file, MapMode.READ_WRITE);
+        assertEquals(new Shape(3, 2), mapped.shape());
+        assertEquals(6, mapped.get(2, 1));
+        mapped.set(-6, 2, 1);
+        assertEquals(-6, numpyUtils.mapNpy(file, MapMode.READ_ONLY).get(2, 1));
+    }
+
+    @Test
+    public void test_map_truncated() throws IOException {
+        var file = tempDir.resolve("a.npy");
+        var bytes = npy("<f8", "False", "(2, 3)", 1, 2, 3, 4, 5, 6);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - Double.BYTES));
+        assertThrows(IOException.class, () -> numpyUtils.mapNpy(file, MapMode.READ_ONLY));
+        assertThrows(IOException.class, () -> numpyUtils.mapNpy(file, MapMode.READ_WRITE));
+        assertEquals(bytes.length - Double.BYTES, Files.size(file));
+    }
+
+    @Test
+    public void test_npz() throws IOException {
+        var file = tempDir.resolve("a.npz");
+        var arrays = new LinkedHashMap<String, DoubleNdBuffer>();
+        arrays.put("points", ndFactory.ndBuffer(new Shape(2, 3), new double[] {1, 2, 3, 4, 5, 6}));
+        arrays.put("weights", ndFactory.ndBuffer(new double[] {0.5, 0.25}).transpose());
+        numpyUtils.writeNpz(arrays, file);
+        try (var zip = new ZipFile(file.toFile())) {
+            var entry = zip.getEntry("points.npy");
+            assertEquals(ZipEntry.STORED, entry.getMethod());
+        }
+        var actual = numpyUtils.readNpz(file);
+        assertEquals("[points, weights]", actual.keySet().toString());
+        assertEquals(
+                jsonUtils.dumpAsJson(arrays.get("points")),
+                jsonUtils.dumpAsJson(actual.get("points")));
+        assertEquals(0.25, actual.get("weights").get(1));
+    }
+
+    /** Same data as numpy.save would write */
+    private static byte[] npy(String descr, String fortranOrder, String shape, double... items) {
+        var header =
+                new StringBuilder(
+                        "{'descr': '%s', 'fortran_order': %s, 'shape': %s, }"
+                                .formatted(descr, fortranOrder, shape));
+        while ((10 + header.length() + 1) % 64 != 0) header.append(' ');
+        header.append('\n');
+        var buf =
+                ByteBuffer.allocate(10 + header.length() + items.length * Double.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+        buf.put((byte) 0x93).put("NUMPY".getBytes(StandardCharsets.US_ASCII));
+        buf.put((byte) 1).put((byte) 0).putShort((short) header.length());
+        buf.put(header.toString().getBytes(StandardCharsets.US_ASCII));
+        for (var item : items) buf.putDouble(item);
+        return buf.array();
+    }
+
+    private static ReadableByteChannel channel(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+}
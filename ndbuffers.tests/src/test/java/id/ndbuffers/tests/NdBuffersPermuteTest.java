@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.NdBuffersMath;
+import id.ndbuffers.Shape;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersPermuteTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils();
+    private static final NdBuffersMath math = new NdBuffersMath();
+
+    @Test
+    public void test_transpose() {
+        var rotation = ndFactory.matrix3d(new double[] {0, -1, 0, 1, 0, 0, 0, 0, 1});
+        var transposed = rotation.transpose();
+        assertEquals(new Shape(3, 3), transposed.shape());
+        assertEquals(
+                """
+                { "data" : [
+                 [0, 1, 0],
+                 [-1, 0, 0],
+                 [0, 0, 1]
+                ] }""",
+                jsonUtils.dumpAsJson(transposed));
+        // view shares the items
+        transposed.set(5, 2, 0);
+        assertEquals(5, rotation.get(0, 2));
+        assertEquals(
+                """
+                { "data" : [
+                 [0, 1, 0],
+                 [-1, 0, 0],
+                 [5, 0, 1]
+                ] }""",
+                jsonUtils.dumpAsJson(rotation.transpose().transpose().transpose()));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> transposed.get(3, 0));
+    }
+
+    @Test
+    public void test_permute() {
+        // channel-last image 2x3 with 2 channels
+        var image =
+                ndFactory.ndBuffer(
+                        new Shape(2, 3, 2),
+                        new double[] {1, 10, 2, 20, 3, 30, 4, 40, 5, 50, 6, 60});
+        var channelFirst = image.permute(2, 0, 1);
+        assertEquals(new Shape(2, 2, 3), channelFirst.shape());
+        assertEquals(
+                """
+                { "data" : [
+                  [
+                   [1, 2, 3],
+                   [4, 5, 6]
+                  ],
+                  [
+                   [10, 20, 30],
+                   [40, 50, 60]
+                  ]
+                 ] }""",
+                jsonUtils.dumpAsJson(channelFirst));
+        assertEquals(60, channelFirst.get(1, 1, 2));
+        // slicing the permuted view
+        var secondChannel = ndFactory.matrixNd(NSlice.of("1:2", "0:2", "0:3"), channelFirst);
+        assertEquals(
+                """
+                { "data" : [
+                 [10, 20, 30],
+                 [40, 50, 60]
+                ] }""",
+                jsonUtils.dumpAsJson(secondChannel));
+        assertThrows(IllegalArgumentException.class, () -> image.permute(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> image.permute(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> image.permute(0, 1, 3));
+    }
+
+    @Test
+    public void test_copy_and_math() {
+        var rows = 70;
+        var cols = 45;
+        var data = new double[rows * cols];
+        for (int i = 0; i < data.length; i++) data[i] = i;
+        var a = ndFactory.ndBuffer(new Shape(rows, cols), data);
+        var copy = ndFactory.ndBuffer(new Shape(cols, rows), new double[data.length]);
+        // large enough to be copied in tiles
+        a.transpose().copyTo(copy);
+        for (int r = 0; r < rows; r++)
+            for (int c = 0; c < cols; c++) assertEquals(a.get(r, c), copy.get(c, r));
+        copy.transpose().copyTo(copy.transpose());
+        math.sub(copy.transpose(), a, a);
+        assertEquals(0, math.norm(a));
+        var square = ndFactory.ndBuffer(new Shape(2, 2), new double[] {1, 2, 3, 4});
+        math.add(square, square.transpose(), square);
+        assertEquals(
+                """
+                { "data" : [
+                 [2, 5],
+                 [8, 8]
+                ] }""",
+                jsonUtils.dumpAsJson(square));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.DoubleNdBufferBase;
+import id.ndbuffers.DoubleNdBufferView;
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.NdBuffersJsonUtils.Option;
+import id.ndbuffers.Shape;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersReshapeTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils(Option.COMPACT);
+
+    @Test
+    public void test_reshape() {
+        var data = IntStream.range(0, 12).asDoubleStream().toArray();
+        var a = ndFactory.ndBuffer(new Shape(2, 6), data);
+        var b = a.reshape(new Shape(3, 2, 2));
+        assertEquals(
+                "{\"data\":[[[0,1],[2,3]],[[4,5],[6,7]],[[8,9],[10,11]]]}",
+                jsonUtils.dumpAsJson(b));
+        // view shares the items
+        b.set(-1, 2, 0, 1);
+        assertEquals(-1, data[9]);
+        assertEquals("{\"data\":[0,1,2,3,4,5,6,7,8,-1,10,11]}", jsonUtils.dumpAsJson(b.flatten()));
+
+        // first two columns of 4x3 matrix
+        var columns = ndFactory.matrixNd(NSlice.of("0:4", "0:2"), a.reshape(new Shape(4, 3)));
+        assertEquals(
+                "{\"data\":[[[0,1],[3,4]],[[6,7],[-1,10]]]}",
+                jsonUtils.dumpAsJson(columns.reshape(new Shape(2, 2, 2))));
+        assertThrows(IllegalArgumentException.class, () -> columns.flatten());
+        assertThrows(IllegalArgumentException.class, () -> a.reshape(new Shape(5, 2)));
+    }
+
+    @Test
+    public void test_reshape_copy() {
+        var data = IntStream.range(0, 6).asDoubleStream().toArray();
+        var transposed = ndFactory.ndBuffer(new Shape(2, 3), data).transpose();
+        assertThrows(IllegalArgumentException.class, () -> transposed.reshape(new Shape(6)));
+        assertThrows(IllegalArgumentException.class, () -> transposed.reshape(new Shape(6), false));
+        var copy = transposed.reshape(new Shape(2, 3), true);
+        assertEquals(DoubleNdBufferBase.class, copy.getClass());
+        assertEquals("{\"data\":[[0,3,1],[4,2,5]]}", jsonUtils.dumpAsJson(copy));
+        copy.set(-1, 0, 0);
+        assertEquals(0, data[0]);
+        // transposed dimensions of size 1 do not need a copy
+        var row = ndFactory.ndBuffer(new Shape(1, 6), data).transpose();
+        assertEquals(DoubleNdBufferView.class, row.reshape(new Shape(2, 3), true).getClass());
+    }
+
+    @Test
+    public void test_squeeze() {
+        var data = IntStream.range(0, 6).asDoubleStream().toArray();
+        var a = ndFactory.ndBuffer(new Shape(1, 2, 1, 3), data);
+        var squeezed = a.squeeze();
+        assertEquals(new Shape(2, 3), squeezed.shape());
+        assertEquals("{\"data\":[[0,1,2],[3,4,5]]}", jsonUtils.dumpAsJson(squeezed));
+        assertEquals(new Shape(1), ndFactory.ndBuffer(new Shape(1, 1), data).squeeze().shape());
+
+        var expanded = squeezed.transpose().expandDims(1);
+        assertEquals(new Shape(3, 1, 2), expanded.shape());
+        assertEquals("{\"data\":[[[0,3]],[[1,4]],[[2,5]]]}", jsonUtils.dumpAsJson(expanded));
+        assertEquals(new Shape(2, 3, 1), squeezed.expandDims(-1).shape());
+        assertEquals(new Shape(1, 2, 3), squeezed.expandDims(-3).shape());
+        assertThrows(IllegalArgumentException.class, () -> squeezed.expandDims(3));
+    }
+}
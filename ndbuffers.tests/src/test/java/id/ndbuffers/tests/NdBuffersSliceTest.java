@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.DoubleNdBufferView;
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.NdBuffersJsonUtils;
+import id.ndbuffers.NdBuffersJsonUtils.Option;
+import id.ndbuffers.Shape;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersSliceTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+    private static final NdBuffersJsonUtils jsonUtils = new NdBuffersJsonUtils(Option.COMPACT);
+
+    @Test
+    public void test_slice() {
+        var data = IntStream.range(0, 12).asDoubleStream().toArray();
+        var a = ndFactory.ndBuffer(new Shape(3, 4), data);
+        assertEquals(
+                "{\"data\":[[8,9,10,11],[4,5,6,7],[0,1,2,3]]}",
+                jsonUtils.dumpAsJson(a.slice("::-1")));
+        assertEquals(
+                "{\"data\":[[11,9],[7,5],[3,1]]}", jsonUtils.dumpAsJson(a.slice("::-1", "::-2")));
+        assertEquals("{\"data\":[[6,7],[10,11]]}", jsonUtils.dumpAsJson(a.slice("-2:", "2:")));
+        assertEquals("{\"data\":[[4,5,6]]}", jsonUtils.dumpAsJson(a.slice("1:2", ":-1")));
+        // reversed view of reversed view is the original order
+        assertEquals(
+                jsonUtils.dumpAsJson(a),
+                jsonUtils.dumpAsJson(a.slice("::-1", "::-1").slice("::-1", "::-1")));
+        assertThrows(IllegalArgumentException.class, () -> a.slice(":", ":", ":"));
+    }
+
+    @Test
+    public void test_flip_image() {
+        // 2x3 RGB image in channel-last layout
+        var data = IntStream.range(0, 18).asDoubleStream().toArray();
+        var image = ndFactory.ndBuffer(new Shape(2, 3, 3), data);
+        var mirrored = image.flip(1);
+        assertEquals(DoubleNdBufferView.class, mirrored.getClass());
+        assertEquals(
+                "{\"data\":[[[6,7,8],[3,4,5],[0,1,2]],[[15,16,17],[12,13,14],[9,10,11]]]}",
+                jsonUtils.dumpAsJson(mirrored));
+        // BGR
+        assertEquals(
+                "{\"data\":[[[2,1,0],[5,4,3],[8,7,6]],[[11,10,9],[14,13,12],[17,16,15]]]}",
+                jsonUtils.dumpAsJson(image.flip(-1)));
+        // view shares the items
+        mirrored.set(-1, 1, 0, 2);
+        assertEquals(-1, data[17]);
+        assertThrows(IllegalArgumentException.class, () -> image.flip(3));
+    }
+
+    @Test
+    public void test_view_negative_slices() {
+        var data = IntStream.range(0, 16).asDoubleStream().toArray();
+        var a = ndFactory.ndBuffer(new Shape(4, 4), data);
+        var nslice = NSlice.of("-1::-1", "-1::-3");
+        var view = ndFactory.matrixNd(nslice, a);
+        assertEquals("{\"data\":[[15,12],[11,8],[7,4],[3,0]]}", jsonUtils.dumpAsJson(view));
+    }
+
+    @Test
+    public void test_forEach_unchecked() {
+        var data = IntStream.range(0, 12).asDoubleStream().toArray();
+        var view = ndFactory.ndBuffer(new Shape(3, 4), data).slice("::-1", "1::2");
+        var items = new StringBuilder();
+        view.forEach(
+                (index, value) -> {
+                    assertEquals(view.get(index), value);
+                    assertEquals(view.getUnchecked(index), value);
+                    items.append((int) value).append(' ');
+                });
+        assertEquals("9 11 5 7 1 3 ", items.toString());
+        view.setUnchecked(-1, 2, 1);
+        assertEquals(-1, data[3]);
+    }
+}
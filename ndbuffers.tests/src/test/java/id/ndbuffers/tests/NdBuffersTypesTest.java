@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.tests;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import id.ndbuffers.ByteNdBufferView;
+import id.ndbuffers.FloatNdBufferView;
+import id.ndbuffers.IntNdBufferView;
+import id.ndbuffers.LongNdBufferView;
+import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.Shape;
+import id.ndbuffers.ShortNdBufferView;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersTypesTest {
+    private static final NdBuffersFactory ndFactory = new NdBuffersFactory();
+
+    @Test
+    public void test_float() {
+        var data = new float[] {1, 2, 3, 4, 5, 6};
+        var buf = ndFactory.ndBuffer(new Shape(2, 3), data);
+        assertEquals(6f, buf.get(1, 2));
+        var view = new FloatNdBufferView(new Shape(2, 1), NSlice.of("0:2", "1:2"), buf);
+        view.set(-5f, 1, 0);
+        assertEquals(-5f, data[4]);
+        var dst = new float[6];
+        buf.copyTo(ndFactory.ndBuffer(new Shape(2, 3), dst), 0, 0);
+        assertArrayEquals(data, dst);
+    }
+
+    @Test
+    public void test_int() {
+        var data = new int[] {1, 2, 3, 4, 5, 6};
+        var buf = ndFactory.ndBuffer(new Shape(3, 2), data);
+        var view = new IntNdBufferView(new Shape(3, 1), NSlice.of("0:3", "1:2"), buf);
+        assertEquals(6, view.get(2, 0));
+        var dst = new int[8];
+        buf.copyTo(ndFactory.ndBuffer(new Shape(4, 2), dst), 1, 0);
+        assertArrayEquals(new int[] {0, 0, 1, 2, 3, 4, 5, 6}, dst);
+    }
+
+    @Test
+    public void test_long() {
+        var data = new long[] {1, 2, 3, 4};
+        var buf = ndFactory.ndBuffer(new Shape(2, 2), data);
+        var view = new LongNdBufferView(new Shape(2, 1), NSlice.of(":", "1:2"), buf);
+        view.set(Long.MAX_VALUE, 1, 0);
+        assertEquals(Long.MAX_VALUE, data[3]);
+    }
+
+    @Test
+    public void test_short() {
+        var buf = ndFactory.ndBuffer(new short[] {1, 2, 3, 4});
+        var view = new ShortNdBufferView(new Shape(2), NSlice.of("0:4:2"), buf);
+        assertEquals((short) 3, view.get(1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> view.get(2));
+    }
+
+    @Test
+    public void test_byte() {
+        var data = new byte[] {1, 2, 3, 4};
+        var buf = ndFactory.ndBuffer(new Shape(2, 2), data);
+        var view = new ByteNdBufferView(new Shape(2, 2), NSlice.of("0:2", "0:2"), buf);
+        view.set((byte) -1, 0, 1);
+        assertEquals((byte) -1, data[1]);
+        assertEquals((byte) 4, ndFactory.byteNdBuffer(new Shape(4), buf.duplicate()).get(3));
+    }
+}
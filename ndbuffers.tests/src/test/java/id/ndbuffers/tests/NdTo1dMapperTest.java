@@ -20,6 +20,7 @@ package id.ndbuffers.tests;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import id.ndbuffers.NSlice;
 import id.ndbuffers.Shape;
 import id.ndbuffers.impl.NdTo1dMapper;
 import java.util.stream.IntStream;
@@ -55,4 +56,75 @@ public class NdTo1dMapperTest {
                 shape.iterate().mapToInt(id -> mapper3.map(id)).toArray());
         Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> mapper3.map(0, 3));
     }
+
+    @Test
+    public void test_fixed_arity() {
+        var shape = new Shape(2, 3, 4, 5);
+        var mapper4 = new NdTo1dMapper(shape);
+        shape.iterate()
+                .forEach(
+                        id ->
+                                assertEquals(
+                                        mapper4.map(id), mapper4.map(id[0], id[1], id[2], id[3])));
+        var mapper3 = new NdTo1dMapper(shape.subshape(1, 4));
+        assertEquals(mapper3.map(new int[] {2, 3, 4}), mapper3.map(2, 3, 4));
+        var mapper1 = new NdTo1dMapper(new Shape(5));
+        assertEquals(4, mapper1.map(4));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> mapper1.map(5));
+        Assertions.assertThrows(
+                ArrayIndexOutOfBoundsException.class, () -> mapper4.map(0, 3, 0, 0));
+    }
+
+    @Test
+    public void test_slice() {
+        // indices:
+        // 0  1  2  3
+        // 4  5  6  7
+        // 8  9  10 11
+        // 12 13 14 15
+        var mapper = new NdTo1dMapper(new Shape(4, 4));
+        var mapper3x3 = mapper.slice(new Shape(3, 3), NSlice.of("1:4", "1:4"));
+        assertEquals(5, mapper3x3.offset());
+        assertArrayEquals(new int[] {4, 1}, mapper3x3.strides());
+        var mapper2x2 = mapper3x3.slice(new Shape(2, 2), NSlice.of("0:3:2", "0:3:2"));
+        assertEquals(5, mapper2x2.map(0, 0));
+        assertEquals(7, mapper2x2.map(0, 1));
+        assertEquals(15, mapper2x2.map(1, 1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> mapper2x2.map(2, 0));
+
+        // view which goes beyond the bounds of the ndbuffer it points to
+        var mapperOut = mapper.slice(new Shape(3, 3), NSlice.of("2:5", "0:3"));
+        assertEquals(13, mapperOut.map(1, 1));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> mapperOut.map(2, 0));
+
+        // vector view which fixes the row
+        var row = mapper.slice(new Shape(4), NSlice.of("2:3", ":4"));
+        assertEquals(11, row.map(3));
+    }
+
+    @Test
+    public void test_unchecked() {
+        var mapper = new NdTo1dMapper(new Shape(4, 4));
+        var view = mapper.slice(new Shape(2, 2), NSlice.of("3:0:-2", "1:4:2"));
+        view.checkBounds();
+        assertEquals(13, view.mapUnchecked(0, 0));
+        assertEquals(7, view.mapUnchecked(1, 1));
+
+        var mapperOut = mapper.slice(new Shape(3, 3), NSlice.of("2:5", "0:3"));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, mapperOut::checkBounds);
+        Assertions.assertThrows(
+                ArrayIndexOutOfBoundsException.class, () -> mapperOut.forEachIndex((i, o) -> {}));
+    }
+
+    @Test
+    public void test_forEachIndex() {
+        var mapper = new NdTo1dMapper(new Shape(3, 4)).permute(1, 0);
+        var offsets = new StringBuilder();
+        mapper.forEachIndex(
+                (index, offset) -> {
+                    assertEquals(mapper.map(index), offset);
+                    offsets.append(offset).append(' ');
+                });
+        assertEquals("0 4 8 1 5 9 2 6 10 3 7 11 ", offsets.toString());
+    }
 }
@@ -18,12 +18,18 @@
 package id.ndbuffers.tests;
 
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import id.ndbuffers.NSlice;
 import id.ndbuffers.Shape;
 import id.ndbuffers.Slice;
+import id.ndbuffers.impl.NdTo1dMapper;
 import java.util.Arrays;
+import java.util.Spliterator;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -47,6 +53,35 @@ public class ShapeTest {
                 new Shape(1, 2, 3).iterate().map(Arrays::toString).collect(joining("\n")));
     }
 
+    @Test
+    public void test_iterate_parallel() {
+        var shape = new Shape(3, 5, 7, 2);
+        var mapper = new NdTo1dMapper(shape);
+        var spliterator = shape.iterate().spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(shape.size(), spliterator.getExactSizeIfKnown());
+        assertArrayEquals(
+                shape.offsets().toArray(),
+                shape.iterate().parallel().mapToInt(mapper::map).toArray());
+        var indices = shape.iterate().parallel().collect(toList());
+        assertEquals(shape.size(), indices.size());
+        assertArrayEquals(new int[] {2, 4, 6, 1}, indices.get(indices.size() - 1));
+        assertEquals(shape.size() * (shape.size() - 1) / 2, shape.offsets().parallel().sum());
+    }
+
+    @Test
+    public void test_forEachIndex() {
+        var shape = new Shape(2, 3);
+        var mapper = new NdTo1dMapper(shape);
+        var out = new StringBuilder();
+        shape.forEachIndex(
+                (index, offset) -> {
+                    assertEquals(mapper.map(index), offset);
+                    out.append(Arrays.toString(index));
+                });
+        assertEquals("[0, 0][0, 1][0, 2][1, 0][1, 1][1, 2]", out.toString());
+    }
+
     @Test
     public void test_ofSize() {
         assertEquals(
@@ -61,4 +96,28 @@ public class ShapeTest {
     public void test_ofLength() {
         assertEquals("Shape=[4]", Shape.ofLength(new NSlice(new Slice(4, 8, 2))).toString());
     }
+
+    @Test
+    public void test_cached() {
+        var shape = new Shape(2, 3, 4);
+        assertEquals(24, shape.size());
+        assertEquals(3, shape.rank());
+        assertEquals(3, shape.dim(1));
+        assertArrayEquals(new int[] {12, 4, 1}, shape.strides());
+        assertEquals(4, shape.stride(1));
+        assertEquals(24, shape.subsize(0));
+        assertEquals(12, shape.subsize(1));
+        assertEquals(4, shape.subsize(2));
+        assertEquals(1, shape.subsize(3));
+        assertArrayEquals(new int[] {1, 2, 3}, shape.lastIndex());
+        // strides are copied
+        shape.strides()[0] = 0;
+        assertEquals(12, shape.stride(0));
+        assertEquals(new Shape(2, 3, 4), shape);
+        assertEquals(new Shape(2, 3, 4).hashCode(), shape.hashCode());
+        assertThrows(IllegalArgumentException.class, () -> new Shape(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Shape(-3, 4));
+        assertThrows(IllegalArgumentException.class, () -> new Shape(70000, 70000));
+        assertThrows(IllegalArgumentException.class, () -> new Shape(-2, -2));
+    }
 }
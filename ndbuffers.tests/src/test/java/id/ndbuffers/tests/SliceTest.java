@@ -21,6 +21,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import id.ndbuffers.NdBuffersFactory;
+import id.ndbuffers.Shape;
 import id.ndbuffers.Slice;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
@@ -99,4 +101,71 @@ public class SliceTest {
         Assertions.assertEquals("Slice[start=1, stop=2, step=1]", Slice.of("1:2").toString());
         Assertions.assertEquals("Slice[start=0, stop=2, step=1]", Slice.of(":2").toString());
     }
+
+    @Test
+    public void test_of_negative() {
+        Assertions.assertEquals(
+                "Slice[start=-1, stop=-2147483648, step=-1]", Slice.of("::-1").toString());
+        Assertions.assertEquals(
+                "Slice[start=5, stop=-2147483648, step=-2]", Slice.of("5::-2").toString());
+        Assertions.assertEquals(
+                "Slice[start=-3, stop=2147483647, step=1]", Slice.of("-3:").toString());
+        Assertions.assertEquals("Slice[start=0, stop=3, step=1]", Slice.of(":3:").toString());
+        assertThrows(IllegalArgumentException.class, () -> Slice.of("1:2:3:4"));
+        assertThrows(IllegalArgumentException.class, () -> Slice.of("::0"));
+        assertThrows(IllegalArgumentException.class, () -> Slice.of("1:5:-1"));
+    }
+
+    @Test
+    public void test_resolve() {
+        var slice = new Slice(1, 3, 1);
+        assertEquals(slice, slice.resolve(10));
+        assertEquals(new Slice(7, 10, 1), Slice.of("-3:").resolve(10));
+        assertEquals(new Slice(0, 9, 1), Slice.of(":-1").resolve(10));
+        assertEquals(new Slice(0, 10, 1), Slice.of("-20:20").resolve(10));
+        assertEquals(new Slice(9, Slice.MIN_INDEX, -1), Slice.of("::-1").resolve(10));
+        assertEquals(new Slice(9, Slice.MIN_INDEX, -1), Slice.of("::-1").resolve(10).resolve(10));
+        assertEquals(new Slice(4, Slice.MIN_INDEX, -1), Slice.of("4:-20:-1").resolve(10));
+        assertEquals(new Slice(9, 3, -2), Slice.of("20:3:-2").resolve(10));
+        assertEquals(new Slice(8, 7, -1), Slice.of("-2:-3:-1").resolve(10));
+    }
+
+    @Test
+    public void test_negative_step() {
+        var slice = Slice.of("::-1").resolve(5);
+        assertEquals(5, slice.size());
+        assertArrayEquals(new int[] {4, 3, 2, 1, 0}, slice.iterate().toArray());
+        assertEquals(4, slice.index(0));
+        assertEquals(0, slice.index(4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.index(5));
+
+        var odd = new Slice(9, 2, -3);
+        assertEquals(3, odd.size());
+        assertArrayEquals(new int[] {9, 6, 3}, odd.iterate().toArray());
+    }
+
+    @Test
+    public void test_negative_step_stop_last() {
+        // -1 is the last item, so both slices are empty same as in NumPy
+        for (var expr : new String[] {"5:-1:-1", "-1:-1:-1"}) {
+            var slice = Slice.of(expr).resolve(10);
+            assertEquals(0, slice.size(), expr);
+            assertEquals(0, slice.iterate().count(), expr);
+        }
+        assertEquals(0, Slice.of("-20::-1").resolve(10).size());
+        assertArrayEquals(new int[] {9, 8}, Slice.of(":-3:-1").resolve(10).iterate().toArray());
+    }
+
+    @Test
+    public void test_start_out_of_range() {
+        var a = new NdBuffersFactory().ndBuffer(new Shape(3), new double[] {1, 2, 3});
+        var e = assertThrows(IllegalArgumentException.class, () -> a.slice("5:"));
+        assertEquals("'start' 5 is out of range for the dimension of size 3", e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> a.slice("3:"));
+        assertEquals(3., a.slice("2:").get(0));
+        // clamped same as in NumPy
+        assertEquals(3, a.slice("-5:").shape().size());
+        e = assertThrows(IllegalArgumentException.class, () -> new Slice(5, 3, 1));
+        assertEquals("'stop' cannot be less than 'start'", e.getMessage());
+    }
 }
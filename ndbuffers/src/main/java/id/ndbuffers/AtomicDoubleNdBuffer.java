@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import id.ndbuffers.impl.AbstractNdBuffer;
+import id.ndbuffers.impl.NdCopyMaker;
+import id.ndbuffers.impl.NdTo1dMapper;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+
+/**
+ * Concurrent mode of {@link DoubleNdBuffer} for ndbuffers shared between multiple threads.
+ *
+ * <p>Besides plain {@link #get(int...)} and {@link #set(double, int...)}, which follow the same
+ * rules as in other ndbuffers, it provides atomic access to each of the items through {@link
+ * VarHandle} over the storage of the items: Java array or {@link ByteBuffer}. No locks are used.
+ *
+ * <p>Plain access from multiple threads to the same item is a data race: it is safe for the
+ * ndbuffers (their state is never changed after construction) but the threads may not see each
+ * other updates. Such items should be accessed with {@link #getVolatile(int...)}, {@link
+ * #setRelease(double, int...)} or one of the atomic updates.
+ *
+ * <p>Atomic updates compare items by their bitwise representation (see {@link
+ * Double#doubleToRawLongBits(double)}), so NaN can be compared and -0 is not equal to 0.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class AtomicDoubleNdBuffer extends AbstractNdBuffer implements DoubleNdBuffer {
+    private static final VarHandle ARRAY = MethodHandles.arrayElementVarHandle(double[].class);
+    private static final VarHandle BIG_ENDIAN =
+            MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LITTLE_ENDIAN =
+            MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private final NdCopyMaker copyMaker = new NdCopyMaker();
+    private final DoubleBuffer buffer;
+    private final double[] array;
+    private final ByteBuffer bytes;
+    private final VarHandle bytesHandle;
+    private final int base;
+
+    /**
+     * Concurrent access to the items of the ndbuffer (base or view) backed by Java array. Changes
+     * are visible through both ndbuffers.
+     *
+     * @throws IllegalArgumentException if ndbuffer is not backed by Java array
+     */
+    public AtomicDoubleNdBuffer(DoubleNdBuffer ndbuffer) {
+        super(ndbuffer.shape(), NdTo1dMapper.of(ndbuffer));
+        buffer = ndbuffer.duplicate();
+        if (!buffer.hasArray())
+            throw new IllegalArgumentException(
+                    "Ndbuffer is not backed by Java array, use direct ByteBuffer instead");
+        array = buffer.array();
+        base = buffer.arrayOffset();
+        bytes = null;
+        bytesHandle = null;
+    }
+
+    /**
+     * New base ndbuffer over the direct {@link ByteBuffer} (native memory, memory mapped files,
+     * memory segments). Items are read and written using the byte order of the given {@link
+     * ByteBuffer}.
+     *
+     * @throws IllegalArgumentException if {@link ByteBuffer} is not direct or its current position
+     *     is not aligned to {@link Double#BYTES}, which is required for the atomic access
+     */
+    public AtomicDoubleNdBuffer(Shape sourceShape, ByteBuffer data) {
+        super(sourceShape, new NdTo1dMapper(sourceShape));
+        if (!data.isDirect())
+            throw new IllegalArgumentException(
+                    "ByteBuffer is not direct, use ndbuffer backed by Java array instead");
+        if (data.alignmentOffset(data.position(), Double.BYTES) != 0)
+            throw new IllegalArgumentException("ByteBuffer position is not aligned to double");
+        buffer = data.asDoubleBuffer();
+        buffer.limit(sourceShape.size());
+        array = null;
+        base = data.position();
+        bytes = data.duplicate();
+        bytesHandle = data.order() == ByteOrder.BIG_ENDIAN ? BIG_ENDIAN : LITTLE_ENDIAN;
+    }
+
+    @Override
+    public double get(int... indices) {
+        return buffer.get(mapper.map(indices));
+    }
+
+    @Override
+    public double get(int i) {
+        return buffer.get(mapper.map(i));
+    }
+
+    @Override
+    public double get(int i, int j) {
+        return buffer.get(mapper.map(i, j));
+    }
+
+    @Override
+    public double get(int i, int j, int k) {
+        return buffer.get(mapper.map(i, j, k));
+    }
+
+    @Override
+    public double get(int i, int j, int k, int l) {
+        return buffer.get(mapper.map(i, j, k, l));
+    }
+
+    @Override
+    public void set(double v, int... indices) {
+        buffer.put(mapper.map(indices), v);
+    }
+
+    @Override
+    public void set(double v, int i) {
+        buffer.put(mapper.map(i), v);
+    }
+
+    @Override
+    public void set(double v, int i, int j) {
+        buffer.put(mapper.map(i, j), v);
+    }
+
+    @Override
+    public void set(double v, int i, int j, int k) {
+        buffer.put(mapper.map(i, j, k), v);
+    }
+
+    @Override
+    public void set(double v, int i, int j, int k, int l) {
+        buffer.put(mapper.map(i, j, k, l), v);
+    }
+
+    @Override
+    public double getUnchecked(int... indices) {
+        return buffer.get(mapper.mapUnchecked(indices));
+    }
+
+    @Override
+    public void setUnchecked(double v, int... indices) {
+        buffer.put(mapper.mapUnchecked(indices), v);
+    }
+
+    /** Read item with the volatile memory semantics (see {@link VarHandle#getVolatile}) */
+    public double getVolatile(int... indices) {
+        var i = mapper.map(indices);
+        if (array != null) return (double) ARRAY.getVolatile(array, base + i);
+        return (double) bytesHandle.getVolatile(bytes, byteIndex(i));
+    }
+
+    /**
+     * Write item with the release memory semantics, all writes done before it by this thread are
+     * visible to the threads which read this item with {@link #getVolatile(int...)} (see {@link
+     * VarHandle#setRelease})
+     */
+    public void setRelease(double v, int... indices) {
+        var i = mapper.map(indices);
+        if (array != null) ARRAY.setRelease(array, base + i, v);
+        else bytesHandle.setRelease(bytes, byteIndex(i), v);
+    }
+
+    /**
+     * Atomically set item to the new value if its current value is the expected one (see {@link
+     * VarHandle#compareAndSet})
+     *
+     * @return true if item was updated
+     */
+    public boolean compareAndSet(double expected, double v, int... indices) {
+        var i = mapper.map(indices);
+        if (array != null) return ARRAY.compareAndSet(array, base + i, expected, v);
+        return bytesHandle.compareAndSet(bytes, byteIndex(i), expected, v);
+    }
+
+    /**
+     * Atomically add delta to the item (see {@link VarHandle#getAndAdd})
+     *
+     * @return previous value of the item
+     */
+    public double getAndAdd(double delta, int... indices) {
+        var i = mapper.map(indices);
+        if (array != null) return (double) ARRAY.getAndAdd(array, base + i, delta);
+        // ByteBuffer views do not support numeric updates of doubles
+        var index = byteIndex(i);
+        while (true) {
+            var current = (double) bytesHandle.getVolatile(bytes, index);
+            if (bytesHandle.weakCompareAndSet(bytes, index, current, current + delta))
+                return current;
+        }
+    }
+
+    @Override
+    public DoubleBuffer duplicate() {
+        return buffer.duplicate();
+    }
+
+    @Override
+    public void copyTo(DoubleNdBuffer destination, int... indices) {
+        copyMaker.copy(this, new int[shape.dims().length], destination, indices);
+    }
+
+    @Override
+    public int dataBufferIndex(int... indices) {
+        return mapper.map(indices);
+    }
+
+    private int byteIndex(int i) {
+        return base + i * Double.BYTES;
+    }
+}
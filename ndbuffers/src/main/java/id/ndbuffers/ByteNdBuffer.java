@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import java.nio.ByteBuffer;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public interface ByteNdBuffer extends NdBuffer {
+
+    byte get(int... indices);
+
+    /**
+     * Same as {@link #get(int...)} but for 1-dimensional indexing. Implementations are expected to
+     * override it so that no array for the indices is allocated.
+     */
+    default byte get(int i) {
+        return get(new int[] {i});
+    }
+
+    /**
+     * @see #get(int)
+     */
+    default byte get(int i, int j) {
+        return get(new int[] {i, j});
+    }
+
+    /**
+     * @see #get(int)
+     */
+    default byte get(int i, int j, int k) {
+        return get(new int[] {i, j, k});
+    }
+
+    /**
+     * @see #get(int)
+     */
+    default byte get(int i, int j, int k, int l) {
+        return get(new int[] {i, j, k, l});
+    }
+
+    void set(byte v, int... indices);
+
+    /**
+     * Same as {@link #set(byte, int...)} but for 1-dimensional indexing. Implementations are
+     * expected to override it so that no array for the indices is allocated.
+     */
+    default void set(byte v, int i) {
+        set(v, new int[] {i});
+    }
+
+    /**
+     * @see #set(byte, int)
+     */
+    default void set(byte v, int i, int j) {
+        set(v, new int[] {i, j});
+    }
+
+    /**
+     * @see #set(byte, int)
+     */
+    default void set(byte v, int i, int j, int k) {
+        set(v, new int[] {i, j, k});
+    }
+
+    /**
+     * @see #set(byte, int)
+     */
+    default void set(byte v, int i, int j, int k, int l) {
+        set(v, new int[] {i, j, k, l});
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    ByteBuffer duplicate();
+
+    void copyTo(ByteNdBuffer destination, int... indices);
+}
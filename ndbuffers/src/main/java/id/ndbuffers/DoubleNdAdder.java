@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import id.ndbuffers.impl.DoubleElementWise;
+import id.ndbuffers.impl.DoubleElementWise.BinaryOp;
+import id.ndbuffers.impl.NdCopyMaker;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Accumulator of the items of the given {@link Shape} which are updated from multiple threads, same
+ * as {@link java.util.concurrent.atomic.DoubleAdder} but for ndbuffers.
+ *
+ * <p>Instead of updating one shared ndbuffer, threads add their values into separate stripes
+ * (ndbuffers of the same {@link Shape}) selected by the thread id, so threads which update the same
+ * items do not contend for the same cache lines. Stripes are allocated on the first update from the
+ * thread which uses them and they are summed together only when the result is requested (see {@link
+ * #sumTo(DoubleNdBuffer)}).
+ *
+ * <p>Each stripe takes as much memory as the ndbuffer of the given {@link Shape}, so the number of
+ * stripes should not be more than the number of threads which update the accumulator.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class DoubleNdAdder {
+    private final NdCopyMaker copyMaker = new NdCopyMaker();
+    private final DoubleElementWise elementWise = new DoubleElementWise();
+    private final Shape shape;
+    private final AtomicReferenceArray<AtomicDoubleNdBuffer> stripes;
+    private final int mask;
+
+    /** Accumulator with the number of stripes equal to the number of available processors */
+    public DoubleNdAdder(Shape shape) {
+        this(shape, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param stripes maximum number of stripes, it is rounded up to the power of two
+     */
+    public DoubleNdAdder(Shape shape, int stripes) {
+        if (stripes <= 0)
+            throw new IllegalArgumentException("Number of stripes should be positive: " + stripes);
+        this.shape = shape;
+        var size = Integer.highestOneBit(stripes);
+        if (size < stripes) size <<= 1;
+        this.stripes = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    public Shape shape() {
+        return shape;
+    }
+
+    /** Atomically add value to the item of the stripe of the current thread */
+    public void add(double v, int... indices) {
+        stripe().getAndAdd(v, indices);
+    }
+
+    /**
+     * Write sums of the items of all stripes into the destination ndbuffer. Stripes are summed
+     * element-wise over their runs (see {@link DoubleElementWise}).
+     *
+     * <p>Updates which happen concurrently with the summation may be missing from the result.
+     */
+    public void sumTo(DoubleNdBuffer destination) {
+        if (!shape.equals(destination.shape()))
+            throw new IllegalArgumentException(
+                    "Shape mismatch %s != %s".formatted(shape, destination.shape()));
+        var first = true;
+        for (int i = 0; i < stripes.length(); i++) {
+            var stripe = stripes.get(i);
+            if (stripe == null) continue;
+            if (first) {
+                var origin = new int[shape.dims().length];
+                copyMaker.copy(stripe, origin, destination, origin);
+                first = false;
+            } else {
+                elementWise.apply(BinaryOp.ADD, stripe, destination, destination);
+            }
+        }
+        if (first) elementWise.fill(destination, 0);
+    }
+
+    /**
+     * @return new base ndbuffer backed by Java array with sums of the items of all stripes
+     * @see #sumTo(DoubleNdBuffer)
+     */
+    public DoubleNdBuffer sum() {
+        var result = new DoubleNdBufferBase(shape, DoubleBuffer.wrap(new double[shape.size()]));
+        sumTo(result);
+        return result;
+    }
+
+    /**
+     * Set all items of all stripes to zero. Updates which happen concurrently with the reset may be
+     * lost.
+     */
+    public void reset() {
+        for (int i = 0; i < stripes.length(); i++) {
+            var stripe = stripes.get(i);
+            if (stripe != null) elementWise.fill(stripe, 0);
+        }
+    }
+
+    private AtomicDoubleNdBuffer stripe() {
+        // threads of the same pool usually have consecutive ids
+        var i = (int) Thread.currentThread().getId() & mask;
+        var stripe = stripes.get(i);
+        if (stripe != null) return stripe;
+        var data = DoubleBuffer.wrap(new double[shape.size()]);
+        stripe = new AtomicDoubleNdBuffer(new DoubleNdBufferBase(shape, data));
+        var existing = stripes.compareAndExchange(i, null, stripe);
+        return existing != null ? existing : stripe;
+    }
+}
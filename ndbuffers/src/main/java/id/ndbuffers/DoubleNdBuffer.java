@@ -17,20 +17,276 @@
  */
 package id.ndbuffers;
 
+import id.ndbuffers.impl.NdTo1dMapper;
 import java.nio.DoubleBuffer;
+import java.util.Arrays;
 
 /**
  * @author lambdaprime intid@protonmail.com
  */
 public interface DoubleNdBuffer extends NdBuffer {
 
+    /** Consumer of the items of {@link DoubleNdBuffer} */
+    @FunctionalInterface
+    interface ItemConsumer {
+        /**
+         * @param index N-dimensional index of the item. The same array instance is passed for all
+         *     the items.
+         * @param value value of the item
+         */
+        void accept(int[] index, double value);
+    }
+
     double get(int... indices);
 
+    /**
+     * Same as {@link #get(int...)} but for 1-dimensional indexing. Implementations are expected to
+     * override it so that no array for the indices is allocated.
+     */
+    default double get(int i) {
+        return get(new int[] {i});
+    }
+
+    /**
+     * @see #get(int)
+     */
+    default double get(int i, int j) {
+        return get(new int[] {i, j});
+    }
+
+    /**
+     * @see #get(int)
+     */
+    default double get(int i, int j, int k) {
+        return get(new int[] {i, j, k});
+    }
+
+    /**
+     * @see #get(int)
+     */
+    default double get(int i, int j, int k, int l) {
+        return get(new int[] {i, j, k, l});
+    }
+
     void set(double v, int... indices);
 
+    /**
+     * Same as {@link #set(double, int...)} but for 1-dimensional indexing. Implementations are
+     * expected to override it so that no array for the indices is allocated.
+     */
+    default void set(double v, int i) {
+        set(v, new int[] {i});
+    }
+
+    /**
+     * @see #set(double, int)
+     */
+    default void set(double v, int i, int j) {
+        set(v, new int[] {i, j});
+    }
+
+    /**
+     * @see #set(double, int)
+     */
+    default void set(double v, int i, int j, int k) {
+        set(v, new int[] {i, j, k});
+    }
+
+    /**
+     * @see #set(double, int)
+     */
+    default void set(double v, int i, int j, int k, int l) {
+        set(v, new int[] {i, j, k, l});
+    }
+
+    /**
+     * Same as {@link #get(int...)} but the indices are not checked against the bounds of the
+     * dimensions, which saves the checks in the loops where the bounds are already known to be
+     * valid. Number of indices should be equal to the number of dimensions. For the indices which
+     * are out of bounds the result is undefined: it can be another item of the same storage or
+     * {@link IndexOutOfBoundsException} thrown by the {@link DoubleBuffer}.
+     *
+     * <p>Implementations which do not support it check the indices as usual.
+     */
+    default double getUnchecked(int... indices) {
+        return get(indices);
+    }
+
+    /**
+     * Same as {@link #set(double, int...)} but the indices are not checked (see {@link
+     * #getUnchecked(int...)}).
+     */
+    default void setUnchecked(double v, int... indices) {
+        set(v, indices);
+    }
+
+    /**
+     * Visit all items in the row-major order. Bounds are checked once before the first item and
+     * then items are read by advancing their positions inside the storage with the strides, without
+     * mapping the N-dimensional indices again.
+     */
+    default void forEach(ItemConsumer consumer) {
+        var buffer = duplicate();
+        NdTo1dMapper.of(this).forEachIndex((index, i) -> consumer.accept(index, buffer.get(i)));
+    }
+
+    /** Cursor over all items in the row-major order (see {@link DoubleNdCursor}) */
+    default DoubleNdCursor cursor() {
+        return new DoubleNdCursor(this);
+    }
+
     /** {@inheritDoc} */
     @Override
     DoubleBuffer duplicate();
 
     void copyTo(DoubleNdBuffer destination, int... indices);
+
+    /**
+     * View over the items selected by the slices, same as basic slicing in NumPy. Slices go over
+     * the leading dimensions of this ndbuffer, the remaining dimensions are taken as a whole.
+     * Negative indices and steps are allowed (see {@link Slice}), so for example slice("::-1")
+     * reverses the first dimension. No items are copied.
+     */
+    default DoubleNdBufferView slice(NSlice nslice) {
+        var dims = shape().dims();
+        var slices = nslice.slices();
+        if (slices.length > dims.length)
+            throw new IllegalArgumentException(
+                    "%s has more dimensions than %s".formatted(nslice, shape()));
+        var resolved = new Slice[dims.length];
+        for (int i = 0; i < dims.length; i++) {
+            var slice = i < slices.length ? slices[i] : new Slice(0, dims[i], 1);
+            var absolute = slice.resolve(dims[i]);
+            if (absolute.step() > 0 && absolute.start() >= dims[i])
+                throw new IllegalArgumentException(
+                        "'start' %d is out of range for the dimension of size %d"
+                                .formatted(absolute.start(), dims[i]));
+            resolved[i] = absolute.trimStop(dims[i]);
+        }
+        var view = new NSlice(resolved);
+        return new DoubleNdBufferView(Shape.ofSize(view), view, this);
+    }
+
+    /**
+     * @param exprs list of expressions as defined in {@link Slice#of(String)}
+     * @see #slice(NSlice)
+     */
+    default DoubleNdBufferView slice(String... exprs) {
+        return slice(NSlice.of(exprs));
+    }
+
+    /**
+     * View with the items of the given dimension in the reverse order, same as flip in NumPy. For
+     * example flip(1) mirrors channel-last image of shape (height, width, channels) horizontally.
+     * No items are copied.
+     *
+     * @param axis dimension to reverse, negative values count from the end
+     */
+    default DoubleNdBufferView flip(int axis) {
+        var rank = shape().dims().length;
+        var position = axis < 0 ? rank + axis : axis;
+        if (position < 0 || position >= rank)
+            throw new IllegalArgumentException(
+                    "Axis %d is out of bounds for %s".formatted(axis, shape()));
+        var slices = new Slice[position + 1];
+        for (int i = 0; i < position; i++) slices[i] = Slice.of(":");
+        slices[position] = Slice.of("::-1");
+        return slice(new NSlice(slices));
+    }
+
+    /**
+     * View over the same items where dimension i is the dimension axes[i] of this ndbuffer. No
+     * items are copied, the view reorders the strides of this ndbuffer. For example permute(2, 0,
+     * 1) turns channel-last image of shape (height, width, channels) into channel-first one of
+     * shape (channels, height, width).
+     *
+     * @param axes permutation of the dimensions of this ndbuffer
+     */
+    default DoubleNdBufferView permute(int... axes) {
+        return new DoubleNdBufferView(this, NdTo1dMapper.of(this).permute(axes));
+    }
+
+    /**
+     * View over the same items with all dimensions in the reverse order. For 2-dimensional
+     * ndbuffers it is the transposed matrix. No items are copied (see {@link #permute(int...)}).
+     */
+    default DoubleNdBufferView transpose() {
+        var axes = new int[shape().dims().length];
+        for (int i = 0; i < axes.length; i++) axes[i] = axes.length - 1 - i;
+        return permute(axes);
+    }
+
+    /**
+     * View of the given shape where the items of this ndbuffer are repeated along the dimensions of
+     * size 1 and the missing leading dimensions, same as broadcasting in NumPy. No items are
+     * copied, the repeated items are the same items of this ndbuffer, so changing one of them
+     * changes all its repetitions.
+     */
+    default DoubleNdBufferView broadcastTo(Shape shape) {
+        return new DoubleNdBufferView(this, NdTo1dMapper.of(this).broadcast(shape));
+    }
+
+    /**
+     * View over the same items in the same row-major order but with the given shape, same as
+     * reshape in NumPy. No items are copied, so such view exists only when the strides of this
+     * ndbuffer allow it (see {@link NdTo1dMapper#reshape(Shape)}). Base ndbuffers and views over
+     * continuous blocks of items can always be reshaped.
+     *
+     * @throws IllegalArgumentException if shape has different number of items or the items cannot
+     *     be viewed with this shape without copying them (see {@link #reshape(Shape, boolean)})
+     */
+    default DoubleNdBufferView reshape(Shape shape) {
+        var mapper = NdTo1dMapper.of(this).reshape(shape);
+        if (mapper == null)
+            throw new IllegalArgumentException(
+                    "Ndbuffer %s cannot be reshaped to %s without copying its items"
+                            .formatted(shape(), shape));
+        return new DoubleNdBufferView(this, mapper);
+    }
+
+    /**
+     * Same as {@link #reshape(Shape)} but when the view does not exist and copying is allowed, the
+     * items are copied into the new base ndbuffer backed by Java array.
+     */
+    default DoubleNdBuffer reshape(Shape shape, boolean allowCopy) {
+        var mapper = NdTo1dMapper.of(this).reshape(shape);
+        if (mapper != null) return new DoubleNdBufferView(this, mapper);
+        if (!allowCopy) return reshape(shape);
+        var data = new double[shape.size()];
+        copyTo(new DoubleNdBufferBase(shape(), DoubleBuffer.wrap(data)));
+        return new DoubleNdBufferBase(shape, DoubleBuffer.wrap(data));
+    }
+
+    /** 1-dimensional view over all items in the row-major order (see {@link #reshape(Shape)}) */
+    default DoubleNdBufferView flatten() {
+        return reshape(new Shape(shape().size()));
+    }
+
+    /**
+     * View without the dimensions of size 1. When all dimensions are of size 1 the view is
+     * 1-dimensional. No items are copied.
+     */
+    default DoubleNdBufferView squeeze() {
+        var dims = Arrays.stream(shape().dims()).filter(d -> d != 1).toArray();
+        return reshape(dims.length == 0 ? new Shape(1) : new Shape(dims));
+    }
+
+    /**
+     * View with the new dimension of size 1 inserted at the given position. No items are copied.
+     *
+     * @param axis position of the new dimension, negative values count from the end, so -1 adds the
+     *     new last dimension
+     */
+    default DoubleNdBufferView expandDims(int axis) {
+        var dims = shape().dims();
+        var position = axis < 0 ? dims.length + 1 + axis : axis;
+        if (position < 0 || position > dims.length)
+            throw new IllegalArgumentException(
+                    "Axis %d is out of bounds for %s".formatted(axis, shape()));
+        var newDims = new int[dims.length + 1];
+        System.arraycopy(dims, 0, newDims, 0, position);
+        newDims[position] = 1;
+        System.arraycopy(dims, position, newDims, position + 1, dims.length - position);
+        return reshape(new Shape(newDims));
+    }
 }
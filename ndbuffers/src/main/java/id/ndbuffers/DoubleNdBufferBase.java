@@ -28,13 +28,11 @@ import java.nio.DoubleBuffer;
 public class DoubleNdBufferBase extends AbstractNdBuffer implements DoubleNdBuffer {
     private final NdCopyMaker copyMaker = new NdCopyMaker();
     private final DoubleBuffer data;
-    private final NdTo1dMapper mapper;
 
     public DoubleNdBufferBase(Shape sourceShape, DoubleBuffer data) {
-        super(sourceShape);
+        super(sourceShape, new NdTo1dMapper(sourceShape));
         this.data = data.duplicate();
         this.data.limit(shape.size());
-        this.mapper = new NdTo1dMapper(sourceShape);
     }
 
     @Override
@@ -42,11 +40,61 @@ public class DoubleNdBufferBase extends AbstractNdBuffer implements DoubleNdBuff
         return data.get(dataBufferIndex(indices));
     }
 
+    @Override
+    public double get(int i) {
+        return data.get(mapper.map(i));
+    }
+
+    @Override
+    public double get(int i, int j) {
+        return data.get(mapper.map(i, j));
+    }
+
+    @Override
+    public double get(int i, int j, int k) {
+        return data.get(mapper.map(i, j, k));
+    }
+
+    @Override
+    public double get(int i, int j, int k, int l) {
+        return data.get(mapper.map(i, j, k, l));
+    }
+
     @Override
     public void set(double v, int... indices) {
         data.put(dataBufferIndex(indices), v);
     }
 
+    @Override
+    public void set(double v, int i) {
+        data.put(mapper.map(i), v);
+    }
+
+    @Override
+    public void set(double v, int i, int j) {
+        data.put(mapper.map(i, j), v);
+    }
+
+    @Override
+    public void set(double v, int i, int j, int k) {
+        data.put(mapper.map(i, j, k), v);
+    }
+
+    @Override
+    public void set(double v, int i, int j, int k, int l) {
+        data.put(mapper.map(i, j, k, l), v);
+    }
+
+    @Override
+    public double getUnchecked(int... indices) {
+        return data.get(mapper.mapUnchecked(indices));
+    }
+
+    @Override
+    public void setUnchecked(double v, int... indices) {
+        data.put(mapper.mapUnchecked(indices), v);
+    }
+
     @Override
     public DoubleBuffer duplicate() {
         return data.duplicate();
@@ -18,28 +18,98 @@
 package id.ndbuffers;
 
 import id.ndbuffers.impl.NdCopyMaker;
+import id.ndbuffers.impl.NdTo1dMapper;
 import java.nio.DoubleBuffer;
+import java.util.Arrays;
 
 /**
+ * View does not forward item access to the ndbuffer it points to. Instead, during construction, its
+ * {@link NSlice} is folded together with the mapping of such ndbuffer into a single {@link
+ * NdTo1dMapper} over the {@link DoubleBuffer} of the base ndbuffer. Because of that the cost of
+ * item access does not depend on how many views are nested.
+ *
+ * <p>Views can also reorder the dimensions of the ndbuffer (see {@link
+ * DoubleNdBuffer#permute(int...)}). Such views only reorder the strides of the mapping and never
+ * copy the items.
+ *
  * @author lambdaprime intid@protonmail.com
  */
 public class DoubleNdBufferView extends NdBufferView implements DoubleNdBuffer {
     private final NdCopyMaker copyMaker = new NdCopyMaker();
     protected final DoubleNdBuffer data;
+    private final DoubleBuffer buffer;
 
     public DoubleNdBufferView(Shape shape, NSlice nslice, DoubleNdBuffer data) {
-        super(shape, nslice);
+        super(shape, nslice, NdTo1dMapper.of(data).slice(shape, nslice.resolve(data.shape())));
         this.data = data;
+        this.buffer = data.duplicate();
+    }
+
+    /** View which maps its items with the given mapper, it covers all items of the mapper shape */
+    DoubleNdBufferView(DoubleNdBuffer data, NdTo1dMapper mapper) {
+        super(mapper.shape(), fullSlice(mapper.shape()), mapper);
+        this.data = data;
+        this.buffer = data.duplicate();
     }
 
     @Override
     public double get(int... indices) {
-        return data.get(nslice.map(indices));
+        return buffer.get(mapper.map(indices));
+    }
+
+    @Override
+    public double get(int i) {
+        return buffer.get(mapper.map(i));
+    }
+
+    @Override
+    public double get(int i, int j) {
+        return buffer.get(mapper.map(i, j));
+    }
+
+    @Override
+    public double get(int i, int j, int k) {
+        return buffer.get(mapper.map(i, j, k));
+    }
+
+    @Override
+    public double get(int i, int j, int k, int l) {
+        return buffer.get(mapper.map(i, j, k, l));
     }
 
     @Override
     public void set(double v, int... indices) {
-        data.set(v, nslice.map(indices));
+        buffer.put(mapper.map(indices), v);
+    }
+
+    @Override
+    public void set(double v, int i) {
+        buffer.put(mapper.map(i), v);
+    }
+
+    @Override
+    public void set(double v, int i, int j) {
+        buffer.put(mapper.map(i, j), v);
+    }
+
+    @Override
+    public void set(double v, int i, int j, int k) {
+        buffer.put(mapper.map(i, j, k), v);
+    }
+
+    @Override
+    public void set(double v, int i, int j, int k, int l) {
+        buffer.put(mapper.map(i, j, k, l), v);
+    }
+
+    @Override
+    public double getUnchecked(int... indices) {
+        return buffer.get(mapper.mapUnchecked(indices));
+    }
+
+    @Override
+    public void setUnchecked(double v, int... indices) {
+        buffer.put(mapper.mapUnchecked(indices), v);
     }
 
     @Override
@@ -54,6 +124,13 @@ public class DoubleNdBufferView extends NdBufferView implements DoubleNdBuffer {
 
     @Override
     public int dataBufferIndex(int... indices) {
-        return data.dataBufferIndex(nslice.map(indices));
+        return mapper.map(indices);
+    }
+
+    private static NSlice fullSlice(Shape shape) {
+        return new NSlice(
+                Arrays.stream(shape.dims())
+                        .mapToObj(d -> new Slice(0, d, 1))
+                        .toArray(Slice[]::new));
     }
 }
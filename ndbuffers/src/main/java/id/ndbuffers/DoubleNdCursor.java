@@ -0,0 +1,143 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import id.ndbuffers.impl.NdTo1dMapper;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Cursor which goes over the items of {@link DoubleNdBuffer} (base or view) in the row-major order
+ * and allows to read and update them.
+ *
+ * <p>Bounds of all items are checked once when the cursor is created. Position of the current item
+ * inside continuous block storage is advanced incrementally by the strides of the ndbuffer: moving
+ * to the next item inside the last dimension takes one addition, and only at the end of the
+ * dimension the carry goes over to the higher order dimensions. N-dimensional indices are never
+ * mapped again (compare with {@link DoubleNdBuffer#get(int...)}).
+ *
+ * {@snippet lang="java" :
+ * var cursor = ndbuffer.cursor();
+ * while (cursor.hasNext()) {
+ *     var v = cursor.nextDouble();
+ *     if (cursor.index(0) == 0) cursor.set(v * 2);
+ * }
+ * }
+ *
+ * <p>Cursor is not thread-safe but it can be reused for another pass over the same items (see
+ * {@link #reset()}).
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class DoubleNdCursor implements PrimitiveIterator.OfDouble {
+    private final DoubleBuffer buffer;
+    private final int[] dims;
+    private final int[] strides;
+    private final int[] index;
+    private final int offset;
+    private final int size;
+    private final int last;
+    private int position;
+    private int remaining;
+
+    public DoubleNdCursor(DoubleNdBuffer ndbuffer) {
+        var mapper = NdTo1dMapper.of(ndbuffer);
+        mapper.checkBounds();
+        buffer = ndbuffer.duplicate();
+        dims = ndbuffer.shape().dims();
+        strides = mapper.strides();
+        offset = mapper.offset();
+        size = ndbuffer.shape().size();
+        last = dims.length - 1;
+        index = new int[dims.length];
+        reset();
+    }
+
+    /** Move cursor back before the first item */
+    public void reset() {
+        Arrays.fill(index, 0);
+        index[last] = -1;
+        position = offset - strides[last];
+        remaining = size;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remaining > 0;
+    }
+
+    /** Move to the next item and return its value */
+    @Override
+    public double nextDouble() {
+        if (remaining == 0) throw new NoSuchElementException();
+        remaining--;
+        if (++index[last] < dims[last]) {
+            position += strides[last];
+        } else {
+            index[last] = 0;
+            position -= strides[last] * (dims[last] - 1);
+            for (int d = last - 1; d >= 0; d--) {
+                if (++index[d] < dims[d]) {
+                    position += strides[d];
+                    break;
+                }
+                position -= strides[d] * (dims[d] - 1);
+                index[d] = 0;
+            }
+        }
+        return buffer.get(position);
+    }
+
+    /**
+     * Value of the current item, which is the item returned by the last {@link #nextDouble()}
+     *
+     * @throws IllegalStateException if {@link #nextDouble()} was not called yet
+     */
+    public double get() {
+        checkStarted();
+        return buffer.get(position);
+    }
+
+    /**
+     * Update the current item (see {@link #get()})
+     *
+     * @throws IllegalStateException if {@link #nextDouble()} was not called yet
+     */
+    public void set(double v) {
+        checkStarted();
+        buffer.put(position, v);
+    }
+
+    /**
+     * Index of the current item in the given dimension
+     *
+     * @throws IllegalStateException if {@link #nextDouble()} was not called yet
+     */
+    public int index(int dim) {
+        checkStarted();
+        return index[dim];
+    }
+
+    /** Before the first item position points one step back from it, outside of the ndbuffer */
+    private void checkStarted() {
+        if (remaining == size)
+            throw new IllegalStateException("Cursor is before the first item, call nextDouble");
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import id.ndbuffers.impl.AbstractNdBuffer;
+import id.ndbuffers.impl.NdCopyMaker;
+import id.ndbuffers.impl.NdTo1dMapper;
+import java.nio.FloatBuffer;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class FloatNdBufferBase extends AbstractNdBuffer implements FloatNdBuffer {
+    private final NdCopyMaker copyMaker = new NdCopyMaker();
+    private final FloatBuffer data;
+
+    public FloatNdBufferBase(Shape sourceShape, FloatBuffer data) {
+        super(sourceShape, new NdTo1dMapper(sourceShape));
+        this.data = data.duplicate();
+        this.data.limit(shape.size());
+    }
+
+    @Override
+    public float get(int... indices) {
+        return data.get(dataBufferIndex(indices));
+    }
+
+    @Override
+    public float get(int i) {
+        return data.get(mapper.map(i));
+    }
+
+    @Override
+    public float get(int i, int j) {
+        return data.get(mapper.map(i, j));
+    }
+
+    @Override
+    public float get(int i, int j, int k) {
+        return data.get(mapper.map(i, j, k));
+    }
+
+    @Override
+    public float get(int i, int j, int k, int l) {
+        return data.get(mapper.map(i, j, k, l));
+    }
+
+    @Override
+    public void set(float v, int... indices) {
+        data.put(dataBufferIndex(indices), v);
+    }
+
+    @Override
+    public void set(float v, int i) {
+        data.put(mapper.map(i), v);
+    }
+
+    @Override
+    public void set(float v, int i, int j) {
+        data.put(mapper.map(i, j), v);
+    }
+
+    @Override
+    public void set(float v, int i, int j, int k) {
+        data.put(mapper.map(i, j, k), v);
+    }
+
+    @Override
+    public void set(float v, int i, int j, int k, int l) {
+        data.put(mapper.map(i, j, k, l), v);
+    }
+
+    @Override
+    public FloatBuffer duplicate() {
+        return data.duplicate();
+    }
+
+    @Override
+    public int dataBufferIndex(int... indices) {
+        return mapper.map(indices);
+    }
+
+    @Override
+    public void copyTo(FloatNdBuffer destination, int... indices) {
+        copyMaker.copy(this, new int[shape.dims().length], destination, indices);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import id.ndbuffers.impl.AbstractNdBuffer;
+import id.ndbuffers.impl.NdCopyMaker;
+import id.ndbuffers.impl.NdTo1dMapper;
+import java.nio.IntBuffer;
+
+/**
+ * @author lambdaprime intid@protonmail.com
+ */
+public class IntNdBufferBase extends AbstractNdBuffer implements IntNdBuffer {
+    private final NdCopyMaker copyMaker = new NdCopyMaker();
+    private final IntBuffer data;
+
+    public IntNdBufferBase(Shape sourceShape, IntBuffer data) {
+        super(sourceShape, new NdTo1dMapper(sourceShape));
+        this.data = data.duplicate();
+        this.data.limit(shape.size());
+    }
+
+    @Override
+    public int get(int... indices) {
+        return data.get(dataBufferIndex(indices));
+    }
+
+    @Override
+    public int get(int i) {
+        return data.get(mapper.map(i));
+    }
+
+    @Override
+    public int get(int i, int j) {
+        return data.get(mapper.map(i, j));
+    }
+
+    @Override
+    public int get(int i, int j, int k) {
+        return data.get(mapper.map(i, j, k));
+    }
+
+    @Override
+    public int get(int i, int j, int k, int l) {
+        return data.get(mapper.map(i, j, k, l));
+    }
+
+    @Override
+    public void set(int v, int... indices) {
+        data.put(dataBufferIndex(indices), v);
+    }
+
+    @Override
+    public void set(int v, int i) {
+        data.put(mapper.map(i), v);
+    }
+
+    @Override
+    public void set(int v, int i, int j) {
+        data.put(mapper.map(i, j), v);
+    }
+
+    @Override
+    public void set(int v, int i, int j, int k) {
+        data.put(mapper.map(i, j, k), v);
+    }
+
+    @Override
+    public void set(int v, int i, int j, int k, int l) {
+        data.put(mapper.map(i, j, k, l), v);
+    }
+
+    @Override
+    public IntBuffer duplicate() {
+        return data.duplicate();
+    }
+
+    @Override
+    public int dataBufferIndex(int... indices) {
+        return mapper.map(indices);
+    }
+
+    @Override
+    public void copyTo(IntNdBuffer destination, int... indices) {
+        copyMaker.copy(this, new int[shape.dims().length], destination, indices);
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import id.ndbuffers.impl.NdCopyMaker;
+import id.ndbuffers.impl.NdTo1dMapper;
+import java.nio.IntBuffer;
+
+/**
+ * View does not forward item access to the ndbuffer it points to. Instead, during construction, its
+ * {@link NSlice} is folded together with the mapping of such ndbuffer into a single {@link
+ * NdTo1dMapper} over the {@link IntBuffer} of the base ndbuffer. Because of that the cost of item
+ * access does not depend on how many views are nested.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class IntNdBufferView extends NdBufferView implements IntNdBuffer {
+    private final NdCopyMaker copyMaker = new NdCopyMaker();
+    protected final IntNdBuffer data;
+    private final IntBuffer buffer;
+
+    public IntNdBufferView(Shape shape, NSlice nslice, IntNdBuffer data) {
+        super(shape, nslice, NdTo1dMapper.of(data).slice(shape, nslice.resolve(data.shape())));
+        this.data = data;
+        this.buffer = data.duplicate();
+    }
+
+    @Override
+    public int get(int... indices) {
+        return buffer.get(mapper.map(indices));
+    }
+
+    @Override
+    public int get(int i) {
+        return buffer.get(mapper.map(i));
+    }
+
+    @Override
+    public int get(int i, int j) {
+        return buffer.get(mapper.map(i, j));
+    }
+
+    @Override
+    public int get(int i, int j, int k) {
+        return buffer.get(mapper.map(i, j, k));
+    }
+
+    @Override
+    public int get(int i, int j, int k, int l) {
+        return buffer.get(mapper.map(i, j, k, l));
+    }
+
+    @Override
+    public void set(int v, int... indices) {
+        buffer.put(mapper.map(indices), v);
+    }
+
+    @Override
+    public void set(int v, int i) {
+        buffer.put(mapper.map(i), v);
+    }
+
+    @Override
+    public void set(int v, int i, int j) {
+        buffer.put(mapper.map(i, j), v);
+    }
+
+    @Override
+    public void set(int v, int i, int j, int k) {
+        buffer.put(mapper.map(i, j, k), v);
+    }
+
+    @Override
+    public void set(int v, int i, int j, int k, int l) {
+        buffer.put(mapper.map(i, j, k, l), v);
+    }
+
+    @Override
+    public IntBuffer duplicate() {
+        return data.duplicate();
+    }
+
+    @Override
+    public void copyTo(IntNdBuffer destination, int... indices) {
+        copyMaker.copy(this, new int[shape.dims().length], destination, indices);
+    }
+
+    @Override
+    public int dataBufferIndex(int... indices) {
+        return mapper.map(indices);
+    }
+}
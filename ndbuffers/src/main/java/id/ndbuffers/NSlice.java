@@ -41,6 +41,20 @@ public record NSlice(Slice... slices) {
                 .toArray();
     }
 
+    /**
+     * Resolve slices with negative indices or negative steps (see {@link Slice#resolve(int)})
+     * against the dimensions of the shape. Slices are aligned with the last dimensions of the
+     * shape, slices for the dimensions which shape does not have are returned as is.
+     */
+    public NSlice resolve(Shape shape) {
+        var dims = shape.dims();
+        var offset = slices.length - dims.length;
+        return new NSlice(
+                IntStream.range(0, slices.length)
+                        .mapToObj(i -> i < offset ? slices[i] : slices[i].resolve(dims[i - offset]))
+                        .toArray(Slice[]::new));
+    }
+
     /**
      * Slices where {@link Slice#stop()} exceeds shape bounds are trimmed so that new {@link
      * Slice#stop()} will point to the index of the last item within the shape
@@ -18,6 +18,7 @@
 package id.ndbuffers;
 
 import id.ndbuffers.impl.AbstractNdBuffer;
+import id.ndbuffers.impl.NdTo1dMapper;
 
 /**
  * @author lambdaprime intid@protonmail.com
@@ -35,6 +36,11 @@ public abstract class NdBufferView extends AbstractNdBuffer {
         this.nslice = nslice;
     }
 
+    NdBufferView(Shape shape, NSlice nslice, NdTo1dMapper mapper) {
+        super(shape, mapper);
+        this.nslice = nslice;
+    }
+
     @Override
     public String toString() {
         return "NdBufferView[shape=%s, nslice=%s]".formatted(shape, nslice);
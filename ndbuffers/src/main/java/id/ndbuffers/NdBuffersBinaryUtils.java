@@ -0,0 +1,66 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import id.ndbuffers.impl.DoubleChannelTransfer;
+import id.ndbuffers.impl.ElementType;
+import id.ndbuffers.impl.NdHeader;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Binary serialization of ndbuffers.
+ *
+ * <p>Serialized ndbuffer starts with the header which describes its {@link Shape}, type of the
+ * items and their byte order (same header as used by memory mapped ndbuffers, see {@link
+ * NdBuffersFactory#createMappedNdBuffer(java.nio.file.Path, Shape)}). All items follow the header
+ * in the row-major order as raw {@link ByteOrder#LITTLE_ENDIAN} values.
+ *
+ * <p>Items are moved between the ndbuffers and the channels in chunks, using bulk {@link
+ * DoubleBuffer} operations which only swap the bytes when the native byte order is different (see
+ * {@link DoubleChannelTransfer}). Views are written without copying them first.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersBinaryUtils {
+    private final DoubleChannelTransfer transfer = new DoubleChannelTransfer();
+
+    /** Write ndbuffer into the current position of the channel */
+    public void write(DoubleNdBuffer ndbuffer, WritableByteChannel channel) throws IOException {
+        new NdHeader(ndbuffer.shape(), ElementType.DOUBLE, ByteOrder.LITTLE_ENDIAN).write(channel);
+        transfer.write(ndbuffer, ByteOrder.LITTLE_ENDIAN, channel);
+    }
+
+    /**
+     * Read ndbuffer from the current position of the channel.
+     *
+     * @return new base ndbuffer backed by Java array
+     * @throws IOException if the channel does not contain ndbuffer of doubles or it ends before all
+     *     items are read
+     */
+    public DoubleNdBuffer read(ReadableByteChannel channel) throws IOException {
+        var header = NdHeader.read(channel);
+        if (header.type() != ElementType.DOUBLE)
+            throw new IOException("Expected ndbuffer of DOUBLE type but was " + header.type());
+        var data = transfer.read(channel, header.shape().size(), header.order());
+        return new DoubleNdBufferBase(header.shape(), DoubleBuffer.wrap(data));
+    }
+}
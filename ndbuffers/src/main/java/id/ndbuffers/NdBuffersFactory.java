@@ -17,6 +17,8 @@
  */
 package id.ndbuffers;
 
+import id.ndbuffers.impl.ElementType;
+import id.ndbuffers.impl.NdHeader;
 import id.ndbuffers.matrix.Matrix3d;
 import id.ndbuffers.matrix.Matrix4d;
 import id.ndbuffers.matrix.MatrixN2d;
@@ -24,8 +26,19 @@ import id.ndbuffers.matrix.MatrixN3d;
 import id.ndbuffers.matrix.MatrixNd;
 import id.ndbuffers.matrix.Vector2d;
 import id.ndbuffers.matrix.Vector3d;
+import java.io.IOException;
 import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * See module documentation about difference between base and view ndbuffers.
@@ -49,6 +62,153 @@ public class NdBuffersFactory {
         return new DoubleNdBufferBase(sourceShape, DoubleBuffer.wrap(data));
     }
 
+    /**
+     * New base ndbuffer pointing to {@link ByteBuffer}. Items are read and written using the byte
+     * order of the given {@link ByteBuffer}.
+     *
+     * <p>This allows to map ndbuffers to the native memory: direct buffers, memory mapped files or
+     * memory segments (see {@link java.lang.foreign.MemorySegment#asByteBuffer()}). In case of
+     * memory segments the ndbuffer is valid only as long as the arena of the segment is alive.
+     */
+    public DoubleNdBuffer ndBuffer(Shape sourceShape, ByteBuffer data) {
+        return new DoubleNdBufferBase(sourceShape, data.asDoubleBuffer());
+    }
+
+    /** New base ndbuffer allocated in the native memory (outside of Java heap) */
+    public DoubleNdBuffer directNdBuffer(Shape sourceShape) {
+        return ndBuffer(
+                sourceShape,
+                ByteBuffer.allocateDirect(Math.multiplyExact(sourceShape.size(), Double.BYTES))
+                        .order(ByteOrder.nativeOrder()));
+    }
+
+    /** New 1-dimensional base ndbuffer wrapped around data array */
+    public FloatNdBuffer ndBuffer(float[] data) {
+        return ndBuffer(new Shape(data.length), data);
+    }
+
+    /** New base ndbuffer pointing to {@link FloatBuffer} */
+    public FloatNdBuffer ndBuffer(Shape sourceShape, FloatBuffer data) {
+        return new FloatNdBufferBase(sourceShape, data);
+    }
+
+    /** New base ndbuffer wrapped around data array */
+    public FloatNdBuffer ndBuffer(Shape sourceShape, float[] data) {
+        return new FloatNdBufferBase(sourceShape, FloatBuffer.wrap(data));
+    }
+
+    /** New 1-dimensional base ndbuffer wrapped around data array */
+    public IntNdBuffer ndBuffer(int[] data) {
+        return ndBuffer(new Shape(data.length), data);
+    }
+
+    /** New base ndbuffer pointing to {@link IntBuffer} */
+    public IntNdBuffer ndBuffer(Shape sourceShape, IntBuffer data) {
+        return new IntNdBufferBase(sourceShape, data);
+    }
+
+    /** New base ndbuffer wrapped around data array */
+    public IntNdBuffer ndBuffer(Shape sourceShape, int[] data) {
+        return new IntNdBufferBase(sourceShape, IntBuffer.wrap(data));
+    }
+
+    /** New 1-dimensional base ndbuffer wrapped around data array */
+    public LongNdBuffer ndBuffer(long[] data) {
+        return ndBuffer(new Shape(data.length), data);
+    }
+
+    /** New base ndbuffer pointing to {@link LongBuffer} */
+    public LongNdBuffer ndBuffer(Shape sourceShape, LongBuffer data) {
+        return new LongNdBufferBase(sourceShape, data);
+    }
+
+    /** New base ndbuffer wrapped around data array */
+    public LongNdBuffer ndBuffer(Shape sourceShape, long[] data) {
+        return new LongNdBufferBase(sourceShape, LongBuffer.wrap(data));
+    }
+
+    /** New 1-dimensional base ndbuffer wrapped around data array */
+    public ShortNdBuffer ndBuffer(short[] data) {
+        return ndBuffer(new Shape(data.length), data);
+    }
+
+    /** New base ndbuffer pointing to {@link ShortBuffer} */
+    public ShortNdBuffer ndBuffer(Shape sourceShape, ShortBuffer data) {
+        return new ShortNdBufferBase(sourceShape, data);
+    }
+
+    /** New base ndbuffer wrapped around data array */
+    public ShortNdBuffer ndBuffer(Shape sourceShape, short[] data) {
+        return new ShortNdBufferBase(sourceShape, ShortBuffer.wrap(data));
+    }
+
+    /** New 1-dimensional base ndbuffer wrapped around data array */
+    public ByteNdBuffer ndBuffer(byte[] data) {
+        return ndBuffer(new Shape(data.length), data);
+    }
+
+    /** New base ndbuffer pointing to {@link ByteBuffer} */
+    public ByteNdBuffer byteNdBuffer(Shape sourceShape, ByteBuffer data) {
+        return new ByteNdBufferBase(sourceShape, data);
+    }
+
+    /** New base ndbuffer wrapped around data array */
+    public ByteNdBuffer ndBuffer(Shape sourceShape, byte[] data) {
+        return new ByteNdBufferBase(sourceShape, ByteBuffer.wrap(data));
+    }
+
+    /**
+     * New base ndbuffer memory mapped to a new file.
+     *
+     * <p>The file starts with the header which describes the ndbuffer ({@link Shape}, type of the
+     * items and their byte order) so that later it can be opened again with {@link
+     * #openMappedNdBuffer(Path, MapMode)}, including by other processes, without any additional
+     * metadata. Because memory mapping is limited by {@link FileChannel#map}, size of all items
+     * cannot exceed {@link Integer#MAX_VALUE} bytes.
+     *
+     * @param file new file, it should not exist
+     */
+    public DoubleNdBuffer createMappedNdBuffer(Path file, Shape sourceShape) throws IOException {
+        var header = new NdHeader(sourceShape, ElementType.DOUBLE, ByteOrder.nativeOrder());
+        try (var channel =
+                FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.READ,
+                        StandardOpenOption.WRITE)) {
+            header.write(channel);
+            return map(channel, header, MapMode.READ_WRITE);
+        }
+    }
+
+    /**
+     * New base ndbuffer memory mapped to the file which was created with {@link
+     * #createMappedNdBuffer(Path, Shape)}.
+     *
+     * @param mode with {@link MapMode#READ_ONLY} any attempt to change the ndbuffer will result in
+     *     {@link java.nio.ReadOnlyBufferException}
+     */
+    public DoubleNdBuffer openMappedNdBuffer(Path file, MapMode mode) throws IOException {
+        var options =
+                mode == MapMode.READ_ONLY
+                        ? new StandardOpenOption[] {StandardOpenOption.READ}
+                        : new StandardOpenOption[] {
+                            StandardOpenOption.READ, StandardOpenOption.WRITE
+                        };
+        try (var channel = FileChannel.open(file, options)) {
+            var header = NdHeader.read(channel);
+            if (header.type() != ElementType.DOUBLE)
+                throw new IOException("Expected ndbuffer of DOUBLE type but was " + header.type());
+            return map(channel, header, mode);
+        }
+    }
+
+    private DoubleNdBuffer map(FileChannel channel, NdHeader header, MapMode mode)
+            throws IOException {
+        var data = channel.map(mode, header.size(), header.dataSize()).order(header.order());
+        return ndBuffer(header.shape(), data);
+    }
+
     /** New view ndbuffer which will point to a new base ndbuffer wrapped around data array */
     public Matrix4d matrix4d(double[] data) {
         return new Matrix4d(data);
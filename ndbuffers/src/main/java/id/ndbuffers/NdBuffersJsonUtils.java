@@ -17,112 +17,95 @@
  */
 package id.ndbuffers;
 
-import id.ndbuffers.impl.AbstractNdBuffer;
-import id.ndbuffers.impl.NdIndexIterator;
-import id.ndbuffers.impl.NdIndexIterator.DimensionChangeListener;
+import id.ndbuffers.impl.JsonNdReader;
+import id.ndbuffers.impl.JsonNdWriter;
 import id.ndbuffers.matrix.MatrixNd;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.DoubleBuffer;
 import java.util.List;
-import java.util.stream.Stream;
 
 /**
+ * Dumps ndbuffers as JSON objects with their items inside the "data" field and reads them back.
+ *
+ * <p>Items are streamed directly from the ndbuffers into the output, without building the whole
+ * document in memory (see {@link #dumpAsJson(DoubleNdBuffer, Appendable)}). Reading is done in a
+ * single pass which stores the items directly into the new ndbuffer (see {@link
+ * #readJson(Reader)}). Instances of this class are thread safe.
+ *
  * @author lambdaprime intid@protonmail.com
  */
 public class NdBuffersJsonUtils {
 
-    public String dumpAsJson(MatrixNd ndbuffer) {
-        return "{ \"data\" : [\n" + dumpAsString(ndbuffer) + "\n] }";
+    public enum Option {
+        /** No whitespaces and one dimensional ndbuffers are not printed as single row matrices */
+        COMPACT,
+
+        /**
+         * Print all digits of the items needed to parse them back to exactly the same values,
+         * instead of rounding them to 5 digits after the decimal point
+         */
+        ROUND_TRIP
     }
 
-    public String dumpAsJson(DoubleNdBuffer ndBuffer) {
-        var shape = ndBuffer.shape();
-        var numOfDims = shape.dims().length;
-        if (numOfDims == 1) {
-            return dumpAsJson(
-                    new MatrixNd(
-                            new NSlice(new Slice(0, 1, 1), new Slice(0, shape.dims()[0], 1)),
-                            ndBuffer));
-        } else if (numOfDims == 2) {
-            return dumpAsJson(
-                    new MatrixNd(
-                            new NSlice(
-                                    new Slice(0, shape.dims()[0], 1),
-                                    new Slice(0, shape.dims()[1], 1)),
-                            ndBuffer));
-        }
-        var l = new ArrayList<String>();
-        var iter =
-                new NdIndexIterator(
-                        shape.subshape(0, numOfDims - 2),
-                        new DimensionChangeListener() {
-                            @Override
-                            public void onStart() {
-                                l.add("[");
-                            }
+    private final JsonNdWriter writer;
 
-                            @Override
-                            public void onEnd() {
-                                l.add("]");
-                            }
-                        });
-        var last2dims = new int[] {shape.dims()[numOfDims - 2], shape.dims()[numOfDims - 1]};
-        Stream.generate(() -> "[").limit(numOfDims - 2).forEach(l::add);
-        while (iter.hasNext()) {
-            var nslice =
-                    new NSlice(
-                            Stream.concat(
-                                            Arrays.stream(iter.next())
-                                                    .mapToObj(i -> new Slice(i, i + 1, 1)),
-                                            Stream.of(
-                                                    new Slice(0, last2dims[0], 1),
-                                                    new Slice(0, last2dims[1], 1)))
-                                    .toArray(i -> new Slice[i]));
-            l.add("[");
-            dumpAsString(new MatrixNd(nslice, ndBuffer)).lines().forEach(l::add);
-            l.add("]");
-        }
-        Stream.generate(() -> "]").limit(numOfDims - 2).forEach(l::add);
-        return "{ \"data\" : %s }".formatted(prettyPrint(l));
+    public NdBuffersJsonUtils(Option... options) {
+        var set = List.of(options);
+        writer = new JsonNdWriter(set.contains(Option.COMPACT), set.contains(Option.ROUND_TRIP));
+    }
+
+    public String dumpAsJson(MatrixNd ndbuffer) {
+        return dumpAsJson((DoubleNdBuffer) ndbuffer);
     }
 
-    private String dumpAsString(MatrixNd matrix) {
-        var rows = matrix.getRows();
-        var cols = matrix.getCols();
+    public String dumpAsJson(DoubleNdBuffer ndBuffer) {
         var buf = new StringBuilder();
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                if (c == 0) buf.append(" [");
-                var num = matrix.get(r, c);
-                var str = AbstractNdBuffer.formatter.format(num);
-                if (str.equals("-0")) str = "0";
-                buf.append(str);
-                if (c < cols - 1) buf.append(", ");
-                else buf.append("]");
-            }
-            if (r < rows - 1) buf.append(",\n");
+        try {
+            writer.write(ndBuffer, buf);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
         return buf.toString();
     }
 
-    private String prettyPrint(List<String> lines) {
-        if (lines.isEmpty()) return "";
-        var len = 0;
-        var buf = new StringBuilder();
-        var iter = lines.iterator();
-        var prevLine = iter.next();
-        while (iter.hasNext()) {
-            var line = iter.next();
-            if (prevLine.equals("[")) len++;
-            buf.append(" ".repeat(len)).append(prevLine);
-            if (line.equals("[") && prevLine.equals("]")) {
-                buf.append(',');
-            }
-            buf.append('\n');
-            if (prevLine.equals("]")) len--;
-            prevLine = line;
+    /**
+     * Stream ndbuffer as JSON into the output. Output receives text in chunks of fixed size, so
+     * memory used does not depend on the size of the ndbuffer.
+     */
+    public void dumpAsJson(DoubleNdBuffer ndBuffer, Appendable out) throws IOException {
+        writer.write(ndBuffer, out);
+    }
+
+    /**
+     * Read ndbuffer from JSON produced by {@link #dumpAsJson(DoubleNdBuffer)} or from JSON nested
+     * arrays of numbers. {@link Shape} of the ndbuffer is inferred from the arrays, so one
+     * dimensional ndbuffers dumped in non {@link Option#COMPACT} mode are read as single row
+     * matrices.
+     *
+     * <p>Items are rounded to the same precision as they were dumped with (see {@link
+     * Option#ROUND_TRIP}).
+     *
+     * @return new base ndbuffer backed by Java array
+     * @throws IOException if JSON is malformed or its arrays have different lengths on the same
+     *     nesting level
+     */
+    public DoubleNdBuffer readJson(Reader in) throws IOException {
+        var items = new JsonNdReader(in).read();
+        return new DoubleNdBufferBase(items.shape(), DoubleBuffer.wrap(items.data()));
+    }
+
+    /**
+     * @see #readJson(Reader)
+     * @throws IllegalArgumentException if JSON is malformed
+     */
+    public DoubleNdBuffer readJson(String json) {
+        try {
+            return readJson(new StringReader(json));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
         }
-        buf.append(" ".repeat(len)).append(prevLine);
-        return buf.toString().trim();
     }
 }
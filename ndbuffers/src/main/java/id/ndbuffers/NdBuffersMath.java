@@ -0,0 +1,340 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import id.ndbuffers.impl.DoubleElementWise;
+import id.ndbuffers.impl.DoubleElementWise.BinaryOp;
+import id.ndbuffers.impl.DoubleElementWise.Comparison;
+import id.ndbuffers.impl.DoubleReductions;
+import id.ndbuffers.impl.DoubleReductions.Reduction;
+import id.ndbuffers.impl.NdCopyMaker;
+import id.ndbuffers.impl.NdLoopExecutor;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Element-wise arithmetic and reductions over ndbuffers.
+ *
+ * <p>Operands of element-wise operations are broadcast to the {@link Shape} of the destination
+ * ndbuffer same as in NumPy: dimensions of the operand are aligned with the last dimensions of the
+ * destination, and operand dimensions of size 1 and the missing leading dimensions are repeated.
+ * For example vector of shape (3) can be subtracted from every row of the matrix of shape (N, 3),
+ * or bias of shape (C) added to every pixel of the image of shape (H, W, C). Operands are never
+ * copied, repeated items are read through the zero strides. Destination ndbuffer can be the same as
+ * one of the operands, which makes the operation in-place. Operations do not allocate any new
+ * ndbuffers.
+ *
+ * <p>Items which are stored consecutively inside Java arrays are processed with the loops which JIT
+ * compiler vectorizes into SIMD instructions. Other ndbuffers (views with steps, native memory) are
+ * processed one item at a time.
+ *
+ * <p>Reductions can be done over all items of the ndbuffer or along one of its axes. Reduction
+ * along an axis removes that axis from the {@link Shape} of the result, unless keepDims is set, in
+ * which case the axis is kept with size 1. Reducing 1-dimensional ndbuffer along its axis gives
+ * {@link Shape} with one item. Negative axis is counted from the last dimension (-1 is the last
+ * one). Sums are compensated (Kahan-Babuska) so they stay accurate for large ndbuffers.
+ *
+ * <p>By default all operations run sequentially in the calling thread. When {@link ForkJoinPool} is
+ * given, ndbuffers which have more items than the threshold are split along their outermost
+ * dimensions into tasks of at most threshold items each, and these tasks are run in parallel inside
+ * the pool.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersMath {
+    private final DoubleElementWise elementWise;
+    private final NdCopyMaker copyMaker;
+    private final DoubleReductions reductions;
+
+    /** All operations are sequential */
+    public NdBuffersMath() {
+        this(new NdLoopExecutor());
+    }
+
+    /**
+     * Operations over ndbuffers with more than {@link NdLoopExecutor#DEFAULT_THRESHOLD} items run
+     * in parallel inside the given pool
+     */
+    public NdBuffersMath(ForkJoinPool pool) {
+        this(pool, NdLoopExecutor.DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Operations over ndbuffers with more than threshold items run in parallel inside the given
+     * pool
+     *
+     * @param threshold maximum number of items processed by one task
+     */
+    public NdBuffersMath(ForkJoinPool pool, int threshold) {
+        this(new NdLoopExecutor(pool, threshold));
+    }
+
+    private NdBuffersMath(NdLoopExecutor executor) {
+        elementWise = new DoubleElementWise(executor);
+        copyMaker = new NdCopyMaker(executor);
+        reductions = new DoubleReductions(executor);
+    }
+
+    /**
+     * Copy all items of the source ndbuffer into destination ndbuffer (see {@link
+     * DoubleNdBuffer#copyTo(DoubleNdBuffer, int...)})
+     */
+    public void copy(DoubleNdBuffer from, DoubleNdBuffer to) {
+        copyMaker.copy(from, new int[from.shape().dims().length], to, new int[0]);
+    }
+
+    /** dst = value */
+    public void fill(DoubleNdBuffer dst, double value) {
+        elementWise.fill(dst, value);
+    }
+
+    /** dst = a + b */
+    public void add(DoubleNdBuffer a, DoubleNdBuffer b, DoubleNdBuffer dst) {
+        elementWise.apply(BinaryOp.ADD, a, b, dst);
+    }
+
+    /** dst = a + b */
+    public void add(DoubleNdBuffer a, double b, DoubleNdBuffer dst) {
+        elementWise.apply(BinaryOp.ADD, a, b, dst);
+    }
+
+    /** a = a + b */
+    public void add(DoubleNdBuffer a, DoubleNdBuffer b) {
+        add(a, b, a);
+    }
+
+    /** a = a + b */
+    public void add(DoubleNdBuffer a, double b) {
+        add(a, b, a);
+    }
+
+    /** dst = a - b */
+    public void sub(DoubleNdBuffer a, DoubleNdBuffer b, DoubleNdBuffer dst) {
+        elementWise.apply(BinaryOp.SUB, a, b, dst);
+    }
+
+    /** dst = a - b */
+    public void sub(DoubleNdBuffer a, double b, DoubleNdBuffer dst) {
+        elementWise.apply(BinaryOp.SUB, a, b, dst);
+    }
+
+    /** a = a - b */
+    public void sub(DoubleNdBuffer a, DoubleNdBuffer b) {
+        sub(a, b, a);
+    }
+
+    /** a = a - b */
+    public void sub(DoubleNdBuffer a, double b) {
+        sub(a, b, a);
+    }
+
+    /** dst = a * b */
+    public void mul(DoubleNdBuffer a, DoubleNdBuffer b, DoubleNdBuffer dst) {
+        elementWise.apply(BinaryOp.MUL, a, b, dst);
+    }
+
+    /** dst = a * b */
+    public void mul(DoubleNdBuffer a, double b, DoubleNdBuffer dst) {
+        elementWise.apply(BinaryOp.MUL, a, b, dst);
+    }
+
+    /** a = a * b */
+    public void mul(DoubleNdBuffer a, DoubleNdBuffer b) {
+        mul(a, b, a);
+    }
+
+    /** a = a * b */
+    public void mul(DoubleNdBuffer a, double b) {
+        mul(a, b, a);
+    }
+
+    /** dst = a / b */
+    public void div(DoubleNdBuffer a, DoubleNdBuffer b, DoubleNdBuffer dst) {
+        elementWise.apply(BinaryOp.DIV, a, b, dst);
+    }
+
+    /** dst = a / b */
+    public void div(DoubleNdBuffer a, double b, DoubleNdBuffer dst) {
+        elementWise.apply(BinaryOp.DIV, a, b, dst);
+    }
+
+    /** a = a / b */
+    public void div(DoubleNdBuffer a, DoubleNdBuffer b) {
+        div(a, b, a);
+    }
+
+    /** a = a / b */
+    public void div(DoubleNdBuffer a, double b) {
+        div(a, b, a);
+    }
+
+    /** dst = a * factor */
+    public void scale(DoubleNdBuffer a, double factor, DoubleNdBuffer dst) {
+        mul(a, factor, dst);
+    }
+
+    /** a = a * factor */
+    public void scale(DoubleNdBuffer a, double factor) {
+        mul(a, factor, a);
+    }
+
+    /** Fused multiply-add (see {@link Math#fma(double, double, double)}): dst = a * b + c */
+    public void fma(DoubleNdBuffer a, DoubleNdBuffer b, DoubleNdBuffer c, DoubleNdBuffer dst) {
+        elementWise.fma(a, b, c, dst);
+    }
+
+    /** Fused multiply-add (see {@link Math#fma(double, double, double)}): dst = a * b + c */
+    public void fma(DoubleNdBuffer a, double b, DoubleNdBuffer c, DoubleNdBuffer dst) {
+        elementWise.fma(a, b, c, dst);
+    }
+
+    /** {@code dst = a < b ? 1 : 0} */
+    public void lessThan(DoubleNdBuffer a, DoubleNdBuffer b, ByteNdBuffer dst) {
+        elementWise.compare(Comparison.LESS, a, b, dst);
+    }
+
+    /** {@code dst = a < b ? 1 : 0} */
+    public void lessThan(DoubleNdBuffer a, double b, ByteNdBuffer dst) {
+        elementWise.compare(Comparison.LESS, a, b, dst);
+    }
+
+    /** {@code dst = a > b ? 1 : 0} */
+    public void greaterThan(DoubleNdBuffer a, DoubleNdBuffer b, ByteNdBuffer dst) {
+        elementWise.compare(Comparison.GREATER, a, b, dst);
+    }
+
+    /** {@code dst = a > b ? 1 : 0} */
+    public void greaterThan(DoubleNdBuffer a, double b, ByteNdBuffer dst) {
+        elementWise.compare(Comparison.GREATER, a, b, dst);
+    }
+
+    /** {@code dst = a == b ? 1 : 0} */
+    public void equal(DoubleNdBuffer a, DoubleNdBuffer b, ByteNdBuffer dst) {
+        elementWise.compare(Comparison.EQUAL, a, b, dst);
+    }
+
+    /** {@code dst = a == b ? 1 : 0} */
+    public void equal(DoubleNdBuffer a, double b, ByteNdBuffer dst) {
+        elementWise.compare(Comparison.EQUAL, a, b, dst);
+    }
+
+    /** Sum of all items */
+    public double sum(DoubleNdBuffer a) {
+        return reductions.reduce(Reduction.SUM, a);
+    }
+
+    /** Sum of the items along the axis */
+    public DoubleNdBuffer sum(DoubleNdBuffer a, int axis, boolean keepDims) {
+        return reduce(Reduction.SUM, a, axis, keepDims);
+    }
+
+    /** Arithmetic mean of all items */
+    public double mean(DoubleNdBuffer a) {
+        return reductions.reduce(Reduction.MEAN, a);
+    }
+
+    /** Arithmetic mean of the items along the axis */
+    public DoubleNdBuffer mean(DoubleNdBuffer a, int axis, boolean keepDims) {
+        return reduce(Reduction.MEAN, a, axis, keepDims);
+    }
+
+    /** Minimum of all items, NaN if any of the items is NaN */
+    public double min(DoubleNdBuffer a) {
+        return reductions.reduce(Reduction.MIN, a);
+    }
+
+    /** Minimum of the items along the axis */
+    public DoubleNdBuffer min(DoubleNdBuffer a, int axis, boolean keepDims) {
+        return reduce(Reduction.MIN, a, axis, keepDims);
+    }
+
+    /** Maximum of all items, NaN if any of the items is NaN */
+    public double max(DoubleNdBuffer a) {
+        return reductions.reduce(Reduction.MAX, a);
+    }
+
+    /** Maximum of the items along the axis */
+    public DoubleNdBuffer max(DoubleNdBuffer a, int axis, boolean keepDims) {
+        return reduce(Reduction.MAX, a, axis, keepDims);
+    }
+
+    /** Euclidean (L2) norm of all items */
+    public double norm(DoubleNdBuffer a) {
+        return reductions.reduce(Reduction.NORM, a);
+    }
+
+    /** Euclidean (L2) norm of the items along the axis */
+    public DoubleNdBuffer norm(DoubleNdBuffer a, int axis, boolean keepDims) {
+        return reduce(Reduction.NORM, a, axis, keepDims);
+    }
+
+    /**
+     * Index of the first maximum item. NaN is treated as greater than any other value.
+     *
+     * @return N-dimensional index
+     */
+    public int[] argmax(DoubleNdBuffer a) {
+        var position = (int) reductions.reduce(Reduction.ARGMAX, a);
+        var dims = a.shape().dims();
+        var index = new int[dims.length];
+        for (int d = dims.length - 1; d >= 0; d--) {
+            index[d] = position % dims[d];
+            position /= dims[d];
+        }
+        return index;
+    }
+
+    /** Positions along the axis of the first maximum items */
+    public IntNdBuffer argmax(DoubleNdBuffer a, int axis, boolean keepDims) {
+        axis = checkAxis(a, axis);
+        var result = reductions.reduce(Reduction.ARGMAX, a, axis);
+        var positions = new int[result.length];
+        for (int i = 0; i < result.length; i++) positions[i] = (int) result[i];
+        return new IntNdBufferBase(reducedShape(a, axis, keepDims), IntBuffer.wrap(positions));
+    }
+
+    private DoubleNdBuffer reduce(
+            Reduction reduction, DoubleNdBuffer a, int axis, boolean keepDims) {
+        axis = checkAxis(a, axis);
+        var result = reductions.reduce(reduction, a, axis);
+        return new DoubleNdBufferBase(reducedShape(a, axis, keepDims), DoubleBuffer.wrap(result));
+    }
+
+    private int checkAxis(DoubleNdBuffer a, int axis) {
+        var rank = a.shape().dims().length;
+        if (axis < -rank || axis >= rank)
+            throw new IllegalArgumentException(
+                    "Axis %d is out of range for %s".formatted(axis, a.shape()));
+        return axis < 0 ? axis + rank : axis;
+    }
+
+    private Shape reducedShape(DoubleNdBuffer a, int axis, boolean keepDims) {
+        var dims = a.shape().dims();
+        if (keepDims) {
+            dims = dims.clone();
+            dims[axis] = 1;
+            return new Shape(dims);
+        }
+        if (dims.length == 1) return new Shape(1);
+        var reduced = new int[dims.length - 1];
+        System.arraycopy(dims, 0, reduced, 0, axis);
+        System.arraycopy(dims, axis + 1, reduced, axis, reduced.length - axis);
+        return new Shape(reduced);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers;
+
+import id.ndbuffers.impl.DoubleChannelTransfer;
+import id.ndbuffers.impl.NpyHeader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Read and write ndbuffers in NumPy .npy and .npz formats.
+ *
+ * <p>Only arrays of 64-bit floating point numbers (NumPy float64) are supported, in either byte
+ * order. Arrays in C (row-major) order are read directly into the base ndbuffers. Arrays in Fortran
+ * (column-major) order are read as transposed views (see {@link DoubleNdBuffer#transpose()}) of the
+ * base ndbuffers, so their items are never reordered.
+ *
+ * <p>Large .npy files can be memory mapped instead of being read (see {@link #mapNpy(Path,
+ * MapMode)}).
+ *
+ * @see <a href="https://numpy.org/doc/stable/reference/generated/numpy.lib.format.html">NumPy .npy
+ *     format</a>
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdBuffersNumpyUtils {
+    private static final String NPY = ".npy";
+    private final DoubleChannelTransfer transfer = new DoubleChannelTransfer();
+
+    /** Write ndbuffer in .npy format in C order into the current position of the channel */
+    public void writeNpy(DoubleNdBuffer ndbuffer, WritableByteChannel channel) throws IOException {
+        new NpyHeader(ndbuffer.shape(), ByteOrder.LITTLE_ENDIAN, false).write(channel);
+        transfer.write(ndbuffer, ByteOrder.LITTLE_ENDIAN, channel);
+    }
+
+    /**
+     * Read ndbuffer in .npy format from the current position of the channel
+     *
+     * @return new base ndbuffer backed by Java array, or its transposed view for Fortran order
+     */
+    public DoubleNdBuffer readNpy(ReadableByteChannel channel) throws IOException {
+        var header = NpyHeader.read(channel);
+        var data = transfer.read(channel, header.shape().size(), header.order());
+        return ndBuffer(header, DoubleBuffer.wrap(data));
+    }
+
+    /**
+     * Memory map .npy file
+     *
+     * <p>Because memory mapping is limited by {@link FileChannel#map}, size of all items cannot
+     * exceed {@link Integer#MAX_VALUE} bytes.
+     *
+     * @param mode with {@link MapMode#READ_ONLY} any attempt to change the ndbuffer will result in
+     *     {@link java.nio.ReadOnlyBufferException}
+     */
+    public DoubleNdBuffer mapNpy(Path file, MapMode mode) throws IOException {
+        var options =
+                mode == MapMode.READ_ONLY
+                        ? new StandardOpenOption[] {StandardOpenOption.READ}
+                        : new StandardOpenOption[] {
+                            StandardOpenOption.READ, StandardOpenOption.WRITE
+                        };
+        try (var channel = FileChannel.open(file, options)) {
+            var header = NpyHeader.read(channel);
+            // mapping past the end would silently grow the file in read-write mode
+            if (channel.size() - channel.position() < header.dataSize())
+                throw new IOException(
+                        "Expected %d bytes of .npy data but file %s is truncated"
+                                .formatted(header.dataSize(), file));
+            var data = channel.map(mode, channel.position(), header.dataSize());
+            return ndBuffer(header, data.order(header.order()).asDoubleBuffer());
+        }
+    }
+
+    /**
+     * Read all arrays of .npz file. Both uncompressed (created by numpy.savez) and compressed
+     * (created by numpy.savez_compressed) files are supported.
+     *
+     * @return ndbuffers by their names in the order they are stored in the file
+     */
+    public Map<String, DoubleNdBuffer> readNpz(Path file) throws IOException {
+        var arrays = new LinkedHashMap<String, DoubleNdBuffer>();
+        try (var zip = new ZipFile(file.toFile())) {
+            var entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                var entry = entries.nextElement();
+                var name = entry.getName();
+                if (name.endsWith(NPY)) name = name.substring(0, name.length() - NPY.length());
+                try (var in = Channels.newChannel(zip.getInputStream(entry))) {
+                    arrays.put(name, readNpy(in));
+                }
+            }
+        }
+        return arrays;
+    }
+
+    /**
+     * Write ndbuffers into uncompressed .npz file (same as numpy.savez)
+     *
+     * @param arrays ndbuffers by their names
+     */
+    public void writeNpz(Map<String, ? extends DoubleNdBuffer> arrays, Path file)
+            throws IOException {
+        try (var zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            var channel = Channels.newChannel(zip);
+            for (var array : arrays.entrySet()) {
+                var header =
+                        new NpyHeader(array.getValue().shape(), ByteOrder.LITTLE_ENDIAN, false);
+                // stored entries should have their size and checksum known before they are written
+                var entry = new ZipEntry(array.getKey() + NPY);
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(header.size() + header.dataSize());
+                entry.setCrc(crc(array.getValue()));
+                zip.putNextEntry(entry);
+                writeNpy(array.getValue(), channel);
+                zip.closeEntry();
+            }
+        }
+    }
+
+    private long crc(DoubleNdBuffer ndbuffer) throws IOException {
+        var crc = new CRC32();
+        writeNpy(
+                ndbuffer,
+                new WritableByteChannel() {
+                    @Override
+                    public int write(ByteBuffer src) {
+                        var n = src.remaining();
+                        crc.update(src);
+                        return n;
+                    }
+
+                    @Override
+                    public boolean isOpen() {
+                        return true;
+                    }
+
+                    @Override
+                    public void close() {}
+                });
+        return crc.getValue();
+    }
+
+    private DoubleNdBuffer ndBuffer(NpyHeader header, DoubleBuffer data) {
+        if (!header.fortranOrder()) return new DoubleNdBufferBase(header.shape(), data);
+        var dims = header.shape().dims();
+        var reversed = new int[dims.length];
+        for (int i = 0; i < dims.length; i++) reversed[i] = dims[dims.length - 1 - i];
+        return new DoubleNdBufferBase(new Shape(reversed), data).transpose();
+    }
+}
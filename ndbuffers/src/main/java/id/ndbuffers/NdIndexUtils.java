@@ -29,7 +29,7 @@ public class NdIndexUtils {
      * Check if items between [from, to] are stored inside continuous block storage of {@link
      * Buffer} to which given ndbuffer points
      */
-    public boolean isConsecutive(DoubleNdBuffer ndbuffer, int[] from, int[] to) {
+    public boolean isConsecutive(NdBuffer ndbuffer, int[] from, int[] to) {
         return ndbuffer.dataBufferIndex(to) - ndbuffer.dataBufferIndex(from)
                 == distance(ndbuffer.shape(), from, to);
     }
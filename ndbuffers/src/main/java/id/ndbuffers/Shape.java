@@ -17,23 +17,59 @@
  */
 package id.ndbuffers;
 
-import id.ndbuffers.impl.NdIndexIterator;
+import id.ndbuffers.impl.NdIndexSpliterator;
 import java.util.Arrays;
-import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 /**
- * @param dims dimension sizes
+ * Sizes of the dimensions of ndbuffers.
+ *
+ * <p>Total number of items, row-major strides and the rank are computed once when the shape is
+ * created, so they can be queried on every item access.
+ *
  * @author lambdaprime intid@protonmail.com
  */
-public record Shape(int... dims) {
+public final class Shape {
 
-    public Shape {
-        if (Arrays.stream(dims).filter(i -> i == 0).findAny().isPresent())
-            throw new IllegalArgumentException("0 size dimension");
+    /** Consumer of the indices of the {@link Shape} */
+    @FunctionalInterface
+    public interface IndexConsumer {
+        /**
+         * @param index N-dimensional index
+         * @param offset flat offset of the index in the row-major order
+         */
+        void accept(int[] index, int offset);
+    }
+
+    private final int[] dims;
+    private final int[] strides;
+    private final int size;
+
+    /**
+     * @param dims dimension sizes. The array is not copied and should not be modified afterwards.
+     * @throws IllegalArgumentException if some of the dimensions is not positive or the total
+     *     number of items does not fit into int
+     */
+    public Shape(int... dims) {
+        var strides = new int[dims.length];
+        var size = 1;
+        for (int i = dims.length - 1; i >= 0; i--) {
+            if (dims[i] == 0) throw new IllegalArgumentException("0 size dimension");
+            if (dims[i] < 0)
+                throw new IllegalArgumentException("Negative size dimension " + dims[i]);
+            strides[i] = size;
+            try {
+                size = Math.multiplyExact(size, dims[i]);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException(
+                        "Too many items in the shape " + Arrays.toString(dims));
+            }
+        }
+        this.dims = dims;
+        this.strides = strides;
+        this.size = size;
     }
 
     /** Calculate shape described by N-dimensional slice */
@@ -45,7 +81,10 @@ public record Shape(int... dims) {
      * Calculate shape described by dimensions between [from, to) inside given N-dimensional slice
      */
     public static Shape ofSize(NSlice nslice, int from, int to) {
-        return new Shape(IntStream.range(from, to).map(i -> nslice.slices()[i].size()).toArray());
+        var slices = nslice.slices();
+        var dims = new int[to - from];
+        for (int i = from; i < to; i++) dims[i - from] = slices[i].size();
+        return new Shape(dims);
     }
 
     /**
@@ -59,25 +98,64 @@ public record Shape(int... dims) {
         return new Shape(Arrays.stream(slice.slices()).mapToInt(Slice::length).toArray());
     }
 
+    /** Dimension sizes, the returned array should not be modified */
     public int[] dims() {
         return dims;
     }
 
+    /** Size of the given dimension */
+    public int dim(int i) {
+        return dims[i];
+    }
+
+    /** Number of dimensions */
+    public int rank() {
+        return dims.length;
+    }
+
     /** Total number of items in all dimensions of the shape */
     public int size() {
-        return subsize(0);
+        return size;
+    }
+
+    /** Distance between consecutive items of the given dimension in the row-major order */
+    public int stride(int i) {
+        return strides[i];
+    }
+
+    /** Row-major strides of all dimensions, see {@link #stride(int)} */
+    public int[] strides() {
+        return strides.clone();
     }
 
     /**
      * Iterate over all dimensions of the shape by generating valid indices in the increasing order
      *
-     * @return sequential ordered {@link Stream} which consist of the same instance of the array
-     *     which values are updated to represent indices of the current shape
+     * <p>Stream is sized and can be split along the outer dimensions, so it can be efficiently
+     * processed in parallel (see {@link Stream#parallel()}).
+     *
+     * @return sequential ordered {@link Stream} where each index is a separate array
      */
     public Stream<int[]> iterate() {
-        return StreamSupport.stream(
-                Spliterators.spliteratorUnknownSize(new NdIndexIterator(this), Spliterator.ORDERED),
-                false);
+        return StreamSupport.stream(new NdIndexSpliterator(this), false);
+    }
+
+    /**
+     * Flat offsets of all indices of the shape in the row-major order. Stream is sized and can be
+     * processed in parallel.
+     */
+    public IntStream offsets() {
+        return IntStream.range(0, size());
+    }
+
+    /**
+     * Visit all indices of the shape in the increasing order
+     *
+     * <p>Unlike {@link #iterate()} it does not allocate new array for each index: consumer receives
+     * the same instance of the array which values are updated to represent the current index.
+     */
+    public void forEachIndex(IndexConsumer consumer) {
+        new NdIndexSpliterator(this).forEachRemaining(consumer);
     }
 
     @Override
@@ -101,10 +179,14 @@ public record Shape(int... dims) {
     }
 
     public int[] lastIndex() {
-        return Arrays.stream(dims).map(i -> i - 1).toArray();
+        var index = new int[dims.length];
+        for (int i = 0; i < dims.length; i++) index[i] = dims[i] - 1;
+        return index;
     }
 
+    /** Total number of items in the dimensions starting from the given one */
     public int subsize(int from) {
-        return Arrays.stream(dims).reduce((a, b) -> a * b).getAsInt();
+        if (from == dims.length) return 1;
+        return strides[from] * dims[from];
     }
 }
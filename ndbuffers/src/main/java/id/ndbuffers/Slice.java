@@ -20,9 +20,18 @@ package id.ndbuffers;
 import java.util.stream.IntStream;
 
 /**
- * @param start index of the first item. Default is 0.
- * @param stop index of the last item of the slice. Default is {@link Slice#MAX_INDEX} which means
- *     slicing continues up to the last item inside current dimension.
+ * Slice of the items of one dimension, same as slicing in NumPy.
+ *
+ * <p>Negative {@link #start} and {@link #stop} count from the end of the dimension, so -1 means the
+ * last item. Negative {@link #step} goes over the items in the reverse order. Such slices depend on
+ * the size of the dimension and they are turned into the absolute ones with {@link #resolve(int)}
+ * when the view is created, so reversed views cost the same as any other views.
+ *
+ * @param start index of the first item. Default is 0, or the last item when the step is negative.
+ * @param stop index where the slice ends, it is not included into the slice. Default is {@link
+ *     Slice#MAX_INDEX} which means slicing continues up to the last item inside current dimension,
+ *     or {@link Slice#MIN_INDEX} when the step is negative which means slicing continues down to
+ *     and including the first item.
  * @param step step size between consecutive items of the slice. Default is 1.
  * @author lambdaprime intid@protonmail.com
  */
@@ -30,8 +39,19 @@ public record Slice(int start, int stop, int step) {
 
     public static final int MAX_INDEX = Integer.MAX_VALUE;
 
+    /**
+     * {@link #stop} of the slices with negative {@link #step} which go down to and including the
+     * first item. Unlike -1, which means the last item, it does not depend on the dimension size.
+     */
+    public static final int MIN_INDEX = Integer.MIN_VALUE;
+
     public Slice {
-        if (stop < start) throw new IllegalArgumentException("'stop' cannot be less then 'start'");
+        if (step == 0) throw new IllegalArgumentException("'step' cannot be 0");
+        if (step > 0 && start >= 0 && stop >= 0 && stop < start)
+            throw new IllegalArgumentException("'stop' cannot be less than 'start'");
+        if (step < 0 && start >= 0 && stop >= 0 && stop > start)
+            throw new IllegalArgumentException(
+                    "'stop' cannot be greater than 'start' when 'step' is negative");
     }
 
     /**
@@ -41,53 +61,83 @@ public record Slice(int start, int stop, int step) {
      */
     public static Slice of(String expr) {
         if (expr.indexOf(':') < 0) throw new IllegalArgumentException("Slice expression is empty");
-        var start = 0;
-        var stop = MAX_INDEX;
-        var step = 1;
         var tokens = expr.split(":");
-        if (tokens.length != 0) {
-            if (tokens.length >= 1)
-                start = tokens[0].isBlank() ? start : Integer.parseInt(tokens[0]);
-            if (tokens.length >= 2)
-                stop = tokens[1].isBlank() ? start : Integer.parseInt(tokens[1]);
-            if (tokens.length == 3)
-                step = tokens[2].isBlank() ? start : Integer.parseInt(tokens[2]);
-            if (tokens.length > 3)
-                new IllegalArgumentException("Not valid slice expression: " + expr);
-        }
+        if (tokens.length > 3)
+            throw new IllegalArgumentException("Not valid slice expression: " + expr);
+        var step =
+                tokens.length == 3 && !tokens[2].isBlank()
+                        ? Integer.parseInt(tokens[2].strip())
+                        : 1;
+        var start = step > 0 ? 0 : -1;
+        var stop = step > 0 ? MAX_INDEX : MIN_INDEX;
+        if (tokens.length >= 1 && !tokens[0].isBlank()) start = Integer.parseInt(tokens[0].strip());
+        if (tokens.length >= 2 && !tokens[1].isBlank()) stop = Integer.parseInt(tokens[1].strip());
         return new Slice(start, stop, step);
     }
 
+    /**
+     * Slice with absolute indices for the dimension of the given size. Negative indices are counted
+     * from the end and indices which go beyond the dimension are clamped to it, same as in NumPy.
+     * Slices with non-negative indices and positive step are returned as is. Resolving already
+     * resolved slice against the same size gives the same slice.
+     */
+    public Slice resolve(int length) {
+        if (step > 0 && start >= 0 && stop >= 0) return this;
+        int newStart, newStop;
+        if (step > 0) {
+            newStart = clamp(start < 0 ? start + length : start, 0, length);
+            newStop = clamp(stop < 0 ? stop + length : stop, newStart, length);
+        } else {
+            newStart = start < 0 ? start + length : start;
+            // start is before the first item so the slice is empty
+            if (newStart < 0) return new Slice(0, 0, step);
+            newStart = Math.min(newStart, length - 1);
+            newStop = stop == MIN_INDEX || stop >= 0 ? stop : stop + length;
+            if (newStop < 0) newStop = MIN_INDEX;
+            else newStop = Math.min(newStop, newStart);
+        }
+        return new Slice(newStart, newStop, step);
+    }
+
     /** Iterate over all indices of the slice */
     public IntStream iterate() {
-        var count = new int[1];
-        count[0] = start;
-        return IntStream.iterate(start, pos -> pos < stop, pos -> pos + step);
+        return IntStream.iterate(
+                start, pos -> step > 0 ? pos < stop : pos > end(), pos -> pos + step);
     }
 
     /** Index of ith item of the slice */
     public int index(int i) {
         if (i < 0) throw new ArrayIndexOutOfBoundsException("Index cannot be negative");
         var res = start + i * step;
-        if (res >= stop)
+        if (step > 0 ? res >= stop : res <= end())
             throw new ArrayIndexOutOfBoundsException("stop=%d index=%d".formatted(stop, res));
         return res;
     }
 
     /** Total number of items */
     public int size() {
-        var len = stop - start;
-        var size = len / step;
-        if (len % step != 0) size++;
+        var len = length();
+        var absStep = Math.abs(step);
+        var size = len / absStep;
+        if (len % absStep != 0) size++;
         return size;
     }
 
     /** Distance between {@link #start} and {@link #stop} */
     public int length() {
-        return stop - start;
+        return step > 0 ? stop - start : start - end();
     }
 
     public Slice trimStop(int maxStop) {
-        return stop <= maxStop ? this : new Slice(start, maxStop, step);
+        return step < 0 || stop <= maxStop ? this : new Slice(start, maxStop, step);
+    }
+
+    /** Index where the slice ends, with {@link #MIN_INDEX} being right before the first item */
+    private int end() {
+        return step < 0 && stop == MIN_INDEX ? -1 : stop;
+    }
+
+    private static int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
     }
 }
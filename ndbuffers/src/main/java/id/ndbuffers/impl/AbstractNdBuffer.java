@@ -19,23 +19,29 @@ package id.ndbuffers.impl;
 
 import id.ndbuffers.NdBuffer;
 import id.ndbuffers.Shape;
-import java.text.DecimalFormat;
 
 /**
  * @author lambdaprime intid@protonmail.com
  */
 public abstract class AbstractNdBuffer implements NdBuffer {
-    public static final DecimalFormat formatter = new DecimalFormat();
-
-    static {
-        formatter.setMaximumFractionDigits(5);
-        formatter.setGroupingUsed(false);
-    }
+    /** Formatter of the items, it has no mutable state and can be used from any thread */
+    public static final DoubleFormatter formatter = new DoubleFormatter();
 
     protected final Shape shape;
 
+    /**
+     * Mapper which resolves N-dimensional indices of this ndbuffer, it is null when ndbuffer does
+     * not provide it (see {@link NdTo1dMapper#of(NdBuffer)})
+     */
+    protected final NdTo1dMapper mapper;
+
     protected AbstractNdBuffer(Shape shape) {
+        this(shape, null);
+    }
+
+    protected AbstractNdBuffer(Shape shape, NdTo1dMapper mapper) {
         this.shape = shape;
+        this.mapper = mapper;
     }
 
     @Override
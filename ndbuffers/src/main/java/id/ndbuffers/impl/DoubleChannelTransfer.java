@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.DoubleNdBuffer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Moves items of {@link DoubleNdBuffer} between ndbuffers and channels as raw bytes.
+ *
+ * <p>Items are moved in chunks through the direct {@link ByteBuffer}, using bulk {@link
+ * DoubleBuffer} operations for each run of the ndbuffer (see {@link NdStridedLoop}), which only
+ * swap the bytes when native byte order is different.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class DoubleChannelTransfer {
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    /** Write all items of the ndbuffer in the row-major order */
+    public void write(DoubleNdBuffer ndbuffer, ByteOrder order, WritableByteChannel channel)
+            throws IOException {
+        var chunk = ByteBuffer.allocateDirect(CHUNK_SIZE).order(order);
+        var items = chunk.asDoubleBuffer();
+        var loop = NdStridedLoop.of(ndbuffer);
+        var stride = loop.runStride(0);
+        var data = ndbuffer.duplicate();
+        try {
+            loop.forEach(
+                    (o, n) -> {
+                        for (int i = 0; i < n; ) {
+                            var count = Math.min(items.remaining(), n - i);
+                            if (stride == 1) items.put(items.position(), data, o[0] + i, count);
+                            else
+                                for (int j = 0; j < count; j++)
+                                    items.put(
+                                            items.position() + j,
+                                            data.get(o[0] + (i + j) * stride));
+                            items.position(items.position() + count);
+                            i += count;
+                            if (!items.hasRemaining()) flush(chunk, items, channel);
+                        }
+                    });
+            flush(chunk, items, channel);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Read given number of items. The count usually comes from the header of the data, so the array
+     * for the items grows as they arrive instead of being allocated for the whole count upfront,
+     * and truncated or corrupted data fails with {@link IOException} before too much memory is
+     * allocated.
+     *
+     * @throws IOException if the channel ends before all items are read
+     */
+    public double[] read(ReadableByteChannel channel, int count, ByteOrder order)
+            throws IOException {
+        var chunkItems = CHUNK_SIZE / Double.BYTES;
+        var data = new double[Math.min(count, chunkItems)];
+        var chunk = ByteBuffer.allocateDirect(CHUNK_SIZE).order(order);
+        for (int i = 0; i < count; ) {
+            var n = Math.min(chunkItems, count - i);
+            chunk.clear().limit(n * Double.BYTES);
+            while (chunk.hasRemaining()) {
+                if (channel.read(chunk) < 0)
+                    throw new IOException("Unexpected end of ndbuffer data");
+            }
+            if (i + n > data.length)
+                data = Arrays.copyOf(data, (int) Math.min(count, 2L * data.length));
+            chunk.flip().asDoubleBuffer().get(data, i, n);
+            i += n;
+        }
+        return data;
+    }
+
+    private void flush(ByteBuffer chunk, DoubleBuffer items, WritableByteChannel channel) {
+        chunk.position(0).limit(items.position() * Double.BYTES);
+        try {
+            while (chunk.hasRemaining()) channel.write(chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        chunk.clear();
+        items.clear();
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.ByteNdBuffer;
+import id.ndbuffers.DoubleNdBuffer;
+import java.nio.Buffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Element-wise operations over {@link DoubleNdBuffer}.
+ *
+ * <p>Items are processed in runs (see {@link NdStridedLoop}). When all ndbuffers of the operation
+ * are backed by Java arrays and their runs are consecutive, the runs are processed with plain array
+ * loops which JIT compiler turns into SIMD instructions. Otherwise items are accessed one by one
+ * through {@link DoubleBuffer} using their strides.
+ *
+ * <p>Operands are broadcast to the {@link id.ndbuffers.Shape} of the destination ndbuffer (see
+ * {@link NdStridedLoop#broadcast(id.ndbuffers.NdBuffer...)}) without copying them.
+ *
+ * <p>Runs are processed by {@link NdLoopExecutor} so large ndbuffers can be processed in parallel.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class DoubleElementWise {
+    private final NdLoopExecutor executor;
+
+    public DoubleElementWise() {
+        this(new NdLoopExecutor());
+    }
+
+    public DoubleElementWise(NdLoopExecutor executor) {
+        this.executor = executor;
+    }
+
+    public enum BinaryOp {
+        ADD {
+            @Override
+            double apply(double a, double b) {
+                return a + b;
+            }
+
+            @Override
+            void apply(double[] a, int ai, double[] b, int bi, double[] d, int di, int n) {
+                for (int i = 0; i < n; i++) d[di + i] = a[ai + i] + b[bi + i];
+            }
+
+            @Override
+            void apply(double[] a, int ai, double b, double[] d, int di, int n) {
+                for (int i = 0; i < n; i++) d[di + i] = a[ai + i] + b;
+            }
+        },
+        SUB {
+            @Override
+            double apply(double a, double b) {
+                return a - b;
+            }
+
+            @Override
+            void apply(double[] a, int ai, double[] b, int bi, double[] d, int di, int n) {
+                for (int i = 0; i < n; i++) d[di + i] = a[ai + i] - b[bi + i];
+            }
+
+            @Override
+            void apply(double[] a, int ai, double b, double[] d, int di, int n) {
+                for (int i = 0; i < n; i++) d[di + i] = a[ai + i] - b;
+            }
+        },
+        MUL {
+            @Override
+            double apply(double a, double b) {
+                return a * b;
+            }
+
+            @Override
+            void apply(double[] a, int ai, double[] b, int bi, double[] d, int di, int n) {
+                for (int i = 0; i < n; i++) d[di + i] = a[ai + i] * b[bi + i];
+            }
+
+            @Override
+            void apply(double[] a, int ai, double b, double[] d, int di, int n) {
+                for (int i = 0; i < n; i++) d[di + i] = a[ai + i] * b;
+            }
+        },
+        DIV {
+            @Override
+            double apply(double a, double b) {
+                return a / b;
+            }
+
+            @Override
+            void apply(double[] a, int ai, double[] b, int bi, double[] d, int di, int n) {
+                for (int i = 0; i < n; i++) d[di + i] = a[ai + i] / b[bi + i];
+            }
+
+            @Override
+            void apply(double[] a, int ai, double b, double[] d, int di, int n) {
+                for (int i = 0; i < n; i++) d[di + i] = a[ai + i] / b;
+            }
+        };
+
+        abstract double apply(double a, double b);
+
+        abstract void apply(double[] a, int ai, double[] b, int bi, double[] d, int di, int n);
+
+        abstract void apply(double[] a, int ai, double b, double[] d, int di, int n);
+    }
+
+    public enum Comparison {
+        LESS {
+            @Override
+            boolean test(double a, double b) {
+                return a < b;
+            }
+        },
+        GREATER {
+            @Override
+            boolean test(double a, double b) {
+                return a > b;
+            }
+        },
+        EQUAL {
+            @Override
+            boolean test(double a, double b) {
+                return a == b;
+            }
+        };
+
+        abstract boolean test(double a, double b);
+    }
+
+    /** dst = value */
+    public void fill(DoubleNdBuffer dst, double value) {
+        var loop = NdStridedLoop.of(dst);
+        var db = dst.duplicate();
+        if (isArrayLoop(loop, db)) {
+            var da = db.array();
+            var dof = db.arrayOffset();
+            executor.forEach(loop, (o, n) -> Arrays.fill(da, dof + o[0], dof + o[0] + n, value));
+        } else {
+            var ds = loop.runStride(0);
+            executor.forEach(
+                    loop,
+                    (o, n) -> {
+                        for (int i = 0; i < n; i++) db.put(o[0] + i * ds, value);
+                    });
+        }
+    }
+
+    /** dst = a op b */
+    public void apply(BinaryOp op, DoubleNdBuffer a, DoubleNdBuffer b, DoubleNdBuffer dst) {
+        var loop = NdStridedLoop.broadcast(a, b, dst);
+        var ab = a.duplicate();
+        var bb = b.duplicate();
+        var db = dst.duplicate();
+        if (isArrayLoop(loop, ab, bb, db)) {
+            var aa = ab.array();
+            var ba = bb.array();
+            var da = db.array();
+            var ao = ab.arrayOffset();
+            var bo = bb.arrayOffset();
+            var dof = db.arrayOffset();
+            executor.forEach(
+                    loop, (o, n) -> op.apply(aa, ao + o[0], ba, bo + o[1], da, dof + o[2], n));
+        } else {
+            var as = loop.runStride(0);
+            var bs = loop.runStride(1);
+            var ds = loop.runStride(2);
+            executor.forEach(
+                    loop,
+                    (o, n) -> {
+                        for (int i = 0; i < n; i++)
+                            db.put(
+                                    o[2] + i * ds,
+                                    op.apply(ab.get(o[0] + i * as), bb.get(o[1] + i * bs)));
+                    });
+        }
+    }
+
+    /** dst = a op b */
+    public void apply(BinaryOp op, DoubleNdBuffer a, double b, DoubleNdBuffer dst) {
+        var loop = NdStridedLoop.broadcast(a, dst);
+        var ab = a.duplicate();
+        var db = dst.duplicate();
+        if (isArrayLoop(loop, ab, db)) {
+            var aa = ab.array();
+            var da = db.array();
+            var ao = ab.arrayOffset();
+            var dof = db.arrayOffset();
+            executor.forEach(loop, (o, n) -> op.apply(aa, ao + o[0], b, da, dof + o[1], n));
+        } else {
+            var as = loop.runStride(0);
+            var ds = loop.runStride(1);
+            executor.forEach(
+                    loop,
+                    (o, n) -> {
+                        for (int i = 0; i < n; i++)
+                            db.put(o[1] + i * ds, op.apply(ab.get(o[0] + i * as), b));
+                    });
+        }
+    }
+
+    /** dst = a * b + c */
+    public void fma(DoubleNdBuffer a, DoubleNdBuffer b, DoubleNdBuffer c, DoubleNdBuffer dst) {
+        var loop = NdStridedLoop.broadcast(a, b, c, dst);
+        var ab = a.duplicate();
+        var bb = b.duplicate();
+        var cb = c.duplicate();
+        var db = dst.duplicate();
+        if (isArrayLoop(loop, ab, bb, cb, db)) {
+            var aa = ab.array();
+            var ba = bb.array();
+            var ca = cb.array();
+            var da = db.array();
+            var ao = ab.arrayOffset();
+            var bo = bb.arrayOffset();
+            var co = cb.arrayOffset();
+            var dof = db.arrayOffset();
+            executor.forEach(
+                    loop,
+                    (o, n) -> {
+                        var ai = ao + o[0];
+                        var bi = bo + o[1];
+                        var ci = co + o[2];
+                        var di = dof + o[3];
+                        for (int i = 0; i < n; i++)
+                            da[di + i] = Math.fma(aa[ai + i], ba[bi + i], ca[ci + i]);
+                    });
+        } else {
+            var as = loop.runStride(0);
+            var bs = loop.runStride(1);
+            var cs = loop.runStride(2);
+            var ds = loop.runStride(3);
+            executor.forEach(
+                    loop,
+                    (o, n) -> {
+                        for (int i = 0; i < n; i++)
+                            db.put(
+                                    o[3] + i * ds,
+                                    Math.fma(
+                                            ab.get(o[0] + i * as),
+                                            bb.get(o[1] + i * bs),
+                                            cb.get(o[2] + i * cs)));
+                    });
+        }
+    }
+
+    /** dst = a * b + c */
+    public void fma(DoubleNdBuffer a, double b, DoubleNdBuffer c, DoubleNdBuffer dst) {
+        var loop = NdStridedLoop.broadcast(a, c, dst);
+        var ab = a.duplicate();
+        var cb = c.duplicate();
+        var db = dst.duplicate();
+        if (isArrayLoop(loop, ab, cb, db)) {
+            var aa = ab.array();
+            var ca = cb.array();
+            var da = db.array();
+            var ao = ab.arrayOffset();
+            var co = cb.arrayOffset();
+            var dof = db.arrayOffset();
+            executor.forEach(
+                    loop,
+                    (o, n) -> {
+                        var ai = ao + o[0];
+                        var ci = co + o[1];
+                        var di = dof + o[2];
+                        for (int i = 0; i < n; i++)
+                            da[di + i] = Math.fma(aa[ai + i], b, ca[ci + i]);
+                    });
+        } else {
+            var as = loop.runStride(0);
+            var cs = loop.runStride(1);
+            var ds = loop.runStride(2);
+            executor.forEach(
+                    loop,
+                    (o, n) -> {
+                        for (int i = 0; i < n; i++)
+                            db.put(
+                                    o[2] + i * ds,
+                                    Math.fma(ab.get(o[0] + i * as), b, cb.get(o[1] + i * cs)));
+                    });
+        }
+    }
+
+    /** dst = a cmp b ? 1 : 0 */
+    public void compare(Comparison cmp, DoubleNdBuffer a, DoubleNdBuffer b, ByteNdBuffer dst) {
+        var loop = NdStridedLoop.broadcast(a, b, dst);
+        var ab = a.duplicate();
+        var bb = b.duplicate();
+        var db = dst.duplicate();
+        var as = loop.runStride(0);
+        var bs = loop.runStride(1);
+        var ds = loop.runStride(2);
+        executor.forEach(
+                loop,
+                (o, n) -> {
+                    for (int i = 0; i < n; i++)
+                        db.put(
+                                o[2] + i * ds,
+                                cmp.test(ab.get(o[0] + i * as), bb.get(o[1] + i * bs))
+                                        ? (byte) 1
+                                        : (byte) 0);
+                });
+    }
+
+    /** dst = a cmp b ? 1 : 0 */
+    public void compare(Comparison cmp, DoubleNdBuffer a, double b, ByteNdBuffer dst) {
+        var loop = NdStridedLoop.broadcast(a, dst);
+        var ab = a.duplicate();
+        var db = dst.duplicate();
+        var as = loop.runStride(0);
+        var ds = loop.runStride(1);
+        executor.forEach(
+                loop,
+                (o, n) -> {
+                    for (int i = 0; i < n; i++)
+                        db.put(
+                                o[1] + i * ds,
+                                cmp.test(ab.get(o[0] + i * as), b) ? (byte) 1 : (byte) 0);
+                });
+    }
+
+    private boolean isArrayLoop(NdStridedLoop loop, Buffer... buffers) {
+        for (int i = 0; i < buffers.length; i++) {
+            if (loop.runStride(i) != 1 || !buffers[i].hasArray()) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Formats doubles into {@link StringBuilder} without the intermediate strings.
+ *
+ * <p>Unlike {@link java.text.DecimalFormat} it has no mutable state and can be shared between the
+ * threads. Output does not depend on the default locale.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class DoubleFormatter {
+    /** Maximum number of digits after the decimal point printed by {@link #format(double)} */
+    public static final int FRACTION_DIGITS = 5;
+
+    private static final double SCALE = 1e5;
+    private static final double MAX_FIXED = 1e10;
+    private static final double MAX_INTEGER = 1e15;
+
+    public String format(double value) {
+        var buf = new StringBuilder();
+        format(value, buf);
+        return buf.toString();
+    }
+
+    /**
+     * Append value rounded half-even to {@link #FRACTION_DIGITS} digits after the decimal point,
+     * without trailing zeros and exponent (same as {@link java.text.DecimalFormat} with grouping
+     * disabled). Negative values which round to zero are printed as "0".
+     */
+    public void format(double value, StringBuilder out) {
+        if (!Double.isFinite(value)) {
+            appendNonFinite(value, out);
+            return;
+        }
+        if (Math.abs(value) < MAX_FIXED) {
+            var scaled = value * SCALE;
+            var fraction = scaled - Math.floor(scaled);
+            // away from the halves rounding of the scaled value is the same as of the exact value
+            if (Math.abs(fraction - 0.5) > 2 * Math.ulp(Math.abs(scaled) + 1)) {
+                appendFixed((long) Math.rint(scaled), out);
+                return;
+            }
+        }
+        // same as DecimalFormat: round the shortest decimal representation and resolve the
+        // halves using the exact binary value
+        var decimal = new BigDecimal(Double.toString(value));
+        var rounded = decimal.setScale(FRACTION_DIGITS, RoundingMode.HALF_UP);
+        if (!rounded.equals(decimal.setScale(FRACTION_DIGITS, RoundingMode.HALF_DOWN))) {
+            // DecimalFormat rounds the half which is the only digit to zero
+            rounded =
+                    decimal.stripTrailingZeros().precision() == 1
+                            ? BigDecimal.ZERO
+                            : new BigDecimal(value)
+                                    .setScale(FRACTION_DIGITS, RoundingMode.HALF_EVEN);
+        }
+        if (rounded.signum() == 0) out.append('0');
+        else out.append(rounded.stripTrailingZeros().toPlainString());
+    }
+
+    /**
+     * Append the value with enough digits to uniquely distinguish it from all other doubles, so
+     * {@link Double#parseDouble(String)} returns exactly the same value. Integer values are printed
+     * without the fraction part.
+     */
+    public void formatRoundTrip(double value, StringBuilder out) {
+        if (!Double.isFinite(value)) {
+            appendNonFinite(value, out);
+        } else if (value == Math.rint(value) && Math.abs(value) < MAX_INTEGER) {
+            if (value == 0 && 1 / value < 0) out.append('-');
+            out.append((long) value);
+        } else {
+            out.append(value);
+        }
+    }
+
+    private void appendFixed(long units, StringBuilder out) {
+        if (units == 0) {
+            out.append('0');
+            return;
+        }
+        if (units < 0) {
+            out.append('-');
+            units = -units;
+        }
+        var scale = (long) SCALE;
+        out.append(units / scale);
+        var fraction = units % scale;
+        if (fraction == 0) return;
+        out.append('.');
+        for (var digit = scale / 10; fraction != 0; digit /= 10) {
+            out.append((char) ('0' + fraction / digit));
+            fraction %= digit;
+        }
+    }
+
+    private void appendNonFinite(double value, StringBuilder out) {
+        if (Double.isNaN(value)) out.append("NaN");
+        else out.append(value > 0 ? "Infinity" : "-Infinity");
+    }
+}
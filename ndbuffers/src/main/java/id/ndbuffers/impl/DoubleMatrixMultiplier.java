@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.DoubleNdBuffer;
+import java.nio.DoubleBuffer;
+import java.util.BitSet;
+
+/**
+ * Matrix multiplication which works directly on the {@link DoubleBuffer} of the matrices using
+ * their strides, so any view (sliced, stepped, transposed) can be multiplied without copying it.
+ *
+ * <p>Multiplication is done in blocks which fit into the CPU cache and each block is computed in
+ * tiles of 4x4 items which are accumulated in registers.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class DoubleMatrixMultiplier {
+    private static final int BLOCK_I = 64;
+    private static final int BLOCK_J = 256;
+    private static final int BLOCK_K = 256;
+    private static final int TILE = 4;
+
+    /** Operand of the multiplication: matrix item (i, j) is stored at offset + i * rs + j * cs */
+    private record Operand(DoubleBuffer buf, int offset, int rs, int cs) {
+        static Operand of(DoubleNdBuffer matrix) {
+            var mapper = NdTo1dMapper.of(matrix);
+            // bounds of all items are checked here once
+            mapper.checkBounds();
+            var strides = mapper.strides();
+            return new Operand(matrix.duplicate(), mapper.map(0, 0), strides[0], strides[1]);
+        }
+
+        double get(int i, int j) {
+            return buf.get(offset + i * rs + j * cs);
+        }
+
+        int index(int i, int j) {
+            return offset + i * rs + j * cs;
+        }
+
+        /** Lowest index of the items of m x n matrix, strides can be negative */
+        int first(int m, int n) {
+            return offset + Math.min(0, (m - 1) * rs) + Math.min(0, (n - 1) * cs);
+        }
+
+        /** Highest index of the items of m x n matrix */
+        int last(int m, int n) {
+            return offset + Math.max(0, (m - 1) * rs) + Math.max(0, (n - 1) * cs);
+        }
+    }
+
+    /** c = a * b */
+    public void multiply(DoubleNdBuffer a, DoubleNdBuffer b, DoubleNdBuffer c) {
+        var adims = a.shape().dims();
+        var bdims = b.shape().dims();
+        var cdims = c.shape().dims();
+        if (adims.length != 2 || bdims.length != 2 || cdims.length != 2)
+            throw new IllegalArgumentException("Only 2-dimensional matrices can be multiplied");
+        if (adims[1] != bdims[0] || cdims[0] != adims[0] || cdims[1] != bdims[1])
+            throw new IllegalArgumentException(
+                    "Cannot multiply %s by %s into %s".formatted(a.shape(), b.shape(), c.shape()));
+        var m = adims[0];
+        var n = bdims[1];
+        var k = adims[1];
+        var opA = Operand.of(a);
+        var opB = Operand.of(b);
+        var opC = Operand.of(c);
+        checkOverlap(opC, m, n, opA, m, k);
+        checkOverlap(opC, m, n, opB, k, n);
+        for (int i = 0; i < m; i++) for (int j = 0; j < n; j++) opC.buf.put(opC.index(i, j), 0);
+        for (int kb = 0; kb < k; kb += BLOCK_K) {
+            var ke = Math.min(kb + BLOCK_K, k);
+            for (int ib = 0; ib < m; ib += BLOCK_I) {
+                var ie = Math.min(ib + BLOCK_I, m);
+                for (int jb = 0; jb < n; jb += BLOCK_J) {
+                    multiplyBlock(opA, opB, opC, ib, ie, jb, Math.min(jb + BLOCK_J, n), kb, ke);
+                }
+            }
+        }
+    }
+
+    private void multiplyBlock(
+            Operand a, Operand b, Operand c, int i0, int i1, int j0, int j1, int k0, int k1) {
+        var i = i0;
+        for (; i + TILE <= i1; i += TILE) {
+            var j = j0;
+            for (; j + TILE <= j1; j += TILE) multiplyTile(a, b, c, i, j, k0, k1);
+            for (; j < j1; j++) {
+                for (int ii = i; ii < i + TILE; ii++) multiplyItem(a, b, c, ii, j, k0, k1);
+            }
+        }
+        for (; i < i1; i++) {
+            for (int j = j0; j < j1; j++) multiplyItem(a, b, c, i, j, k0, k1);
+        }
+    }
+
+    private void multiplyItem(Operand a, Operand b, Operand c, int i, int j, int k0, int k1) {
+        var sum = 0.;
+        for (int p = k0; p < k1; p++) sum += a.get(i, p) * b.get(p, j);
+        var index = c.index(i, j);
+        c.buf.put(index, c.buf.get(index) + sum);
+    }
+
+    private void multiplyTile(Operand a, Operand b, Operand c, int i, int j, int k0, int k1) {
+        double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+        var abuf = a.buf;
+        var bbuf = b.buf;
+        var ai = a.index(i, k0);
+        var bi = b.index(k0, j);
+        var ars = a.rs;
+        var bcs = b.cs;
+        for (int p = k0; p < k1; p++, ai += a.cs, bi += b.rs) {
+            var a0 = abuf.get(ai);
+            var a1 = abuf.get(ai + ars);
+            var a2 = abuf.get(ai + 2 * ars);
+            var a3 = abuf.get(ai + 3 * ars);
+            var b0 = bbuf.get(bi);
+            var b1 = bbuf.get(bi + bcs);
+            var b2 = bbuf.get(bi + 2 * bcs);
+            var b3 = bbuf.get(bi + 3 * bcs);
+            c00 += a0 * b0;
+            c01 += a0 * b1;
+            c02 += a0 * b2;
+            c03 += a0 * b3;
+            c10 += a1 * b0;
+            c11 += a1 * b1;
+            c12 += a1 * b2;
+            c13 += a1 * b3;
+            c20 += a2 * b0;
+            c21 += a2 * b1;
+            c22 += a2 * b2;
+            c23 += a2 * b3;
+            c30 += a3 * b0;
+            c31 += a3 * b1;
+            c32 += a3 * b2;
+            c33 += a3 * b3;
+        }
+        addRow(c, i, j, c00, c01, c02, c03);
+        addRow(c, i + 1, j, c10, c11, c12, c13);
+        addRow(c, i + 2, j, c20, c21, c22, c23);
+        addRow(c, i + 3, j, c30, c31, c32, c33);
+    }
+
+    private void addRow(Operand c, int i, int j, double v0, double v1, double v2, double v3) {
+        var buf = c.buf;
+        var index = c.index(i, j);
+        buf.put(index, buf.get(index) + v0);
+        index += c.cs;
+        buf.put(index, buf.get(index) + v1);
+        index += c.cs;
+        buf.put(index, buf.get(index) + v2);
+        index += c.cs;
+        buf.put(index, buf.get(index) + v3);
+    }
+
+    /**
+     * Destination is overwritten while operands are still being read, so they should not share any
+     * items. Overlap can be detected only for the matrices which are backed by the same Java array.
+     *
+     * <p>Matrices are compared item by item inside the range of the array where both of them lie,
+     * so the views which interleave without sharing any items (like disjoint column blocks of the
+     * same matrix) are allowed.
+     */
+    private void checkOverlap(Operand c, int cm, int cn, Operand op, int m, int n) {
+        if (!c.buf.hasArray() || !op.buf.hasArray() || c.buf.array() != op.buf.array()) return;
+        var cShift = c.buf.arrayOffset();
+        var opShift = op.buf.arrayOffset();
+        var from = Math.max(cShift + c.first(cm, cn), opShift + op.first(m, n));
+        var to = Math.min(cShift + c.last(cm, cn), opShift + op.last(m, n));
+        if (from > to) return;
+        var items = new BitSet(to - from + 1);
+        for (int i = 0; i < cm; i++) {
+            for (int j = 0; j < cn; j++) {
+                var index = cShift + c.index(i, j);
+                if (from <= index && index <= to) items.set(index - from);
+            }
+        }
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < n; j++) {
+                var index = opShift + op.index(i, j);
+                if (from <= index && index <= to && items.get(index - from))
+                    throw new IllegalArgumentException(
+                            "Destination matrix overlaps with the operand");
+            }
+        }
+    }
+}
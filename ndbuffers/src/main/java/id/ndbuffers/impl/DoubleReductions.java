@@ -0,0 +1,422 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.DoubleNdBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+/**
+ * Reductions over {@link DoubleNdBuffer}.
+ *
+ * <p>All reductions are done in a single pass over the runs of the ndbuffer (see {@link
+ * NdStridedLoop}). Sums are computed in blocks with several independent partial sums which are then
+ * added using Kahan-Babuska (Neumaier) compensated summation, so the error does not grow with the
+ * number of items.
+ *
+ * <p>Reduction along an axis which is the innermost dimension of the ndbuffer reduces each of its
+ * runs separately. Reduction along any other axis accumulates runs element-wise into the results,
+ * so the items are still read in the order they are stored.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class DoubleReductions {
+
+    public enum Reduction {
+        SUM,
+        MEAN,
+        MIN,
+        MAX,
+        /** Euclidean (L2) norm */
+        NORM,
+        /** Row-major position of the first maximum, NaN is treated as maximum */
+        ARGMAX
+    }
+
+    private static final int BLOCK = 128;
+
+    private final NdLoopExecutor executor;
+
+    public DoubleReductions() {
+        this(new NdLoopExecutor());
+    }
+
+    public DoubleReductions(NdLoopExecutor executor) {
+        this.executor = executor;
+    }
+
+    /** Reduce all items of the ndbuffer */
+    public double reduce(Reduction reduction, DoubleNdBuffer a) {
+        var mapper = NdTo1dMapper.of(a);
+        var dims = a.shape().dims();
+        var loop =
+                new NdStridedLoop(
+                        dims,
+                        new int[] {firstItem(mapper, dims), 0},
+                        mapper.strides(),
+                        rowMajorStrides(dims));
+        var buffer = a.duplicate();
+        var stride = loop.runStride(0);
+        return executor.reduce(
+                        loop,
+                        () -> new Accumulator(reduction),
+                        (acc, o, n) -> acc.accept(buffer, o[0], stride, o[1], n),
+                        Accumulator::combine)
+                .result(a.shape().size());
+    }
+
+    /**
+     * Reduce items of the ndbuffer along the given axis
+     *
+     * @return results in the row-major order of the remaining dimensions
+     */
+    public double[] reduce(Reduction reduction, DoubleNdBuffer a, int axis) {
+        var dims = a.shape().dims();
+        var innermost = true;
+        for (int d = axis + 1; d < dims.length; d++) if (dims[d] > 1) innermost = false;
+        return innermost ? reduceRuns(reduction, a, axis) : reduceElementWise(reduction, a, axis);
+    }
+
+    private double[] reduceRuns(Reduction reduction, DoubleNdBuffer a, int axis) {
+        var mapper = NdTo1dMapper.of(a);
+        var dims = a.shape().dims();
+        var strides = mapper.strides();
+        var outerDims = dims.length > 1 ? remove(dims, axis) : new int[] {1};
+        var outerStrides = dims.length > 1 ? remove(strides, axis) : new int[] {0};
+        var loop =
+                new NdStridedLoop(
+                        outerDims,
+                        new int[] {firstItem(mapper, dims), 0},
+                        outerStrides,
+                        rowMajorStrides(outerDims));
+        var result = new double[loop.size()];
+        var buffer = a.duplicate();
+        var stride = loop.runStride(0);
+        var lineStride = strides[axis];
+        var lineLength = dims[axis];
+        executor.forEach(
+                loop,
+                (o, n) -> {
+                    var acc = new Accumulator(reduction);
+                    for (int i = 0; i < n; i++) {
+                        acc.reset();
+                        acc.accept(buffer, o[0] + i * stride, lineStride, 0, lineLength);
+                        result[o[1] + i] = acc.result(lineLength);
+                    }
+                });
+        return result;
+    }
+
+    private double[] reduceElementWise(Reduction reduction, DoubleNdBuffer a, int axis) {
+        var mapper = NdTo1dMapper.of(a);
+        var dims = a.shape().dims();
+        var resultStrides = rowMajorStrides(dims);
+        var axisStrides = new int[dims.length];
+        for (int d = 0; d < dims.length; d++) {
+            if (d < axis) resultStrides[d] /= dims[axis];
+            else if (d == axis) resultStrides[d] = 0;
+        }
+        axisStrides[axis] = 1;
+        var size = a.shape().size() / dims[axis];
+        var result = new double[size];
+        var compensation = new double[size];
+        var positions = new int[size];
+        switch (reduction) {
+            case MIN -> Arrays.fill(result, Double.POSITIVE_INFINITY);
+            case MAX, ARGMAX -> Arrays.fill(result, Double.NEGATIVE_INFINITY);
+            default -> {}
+        }
+        Arrays.fill(positions, -1);
+        var buffer = a.duplicate();
+        var strides = mapper.strides();
+        // dimensions from the axis to the last one are reduced sequentially, so that none of the
+        // results is updated by more than one task
+        var innerDims = Arrays.copyOfRange(dims, axis, dims.length);
+        var innerStrides = Arrays.copyOfRange(strides, axis, dims.length);
+        var innerResultStrides = Arrays.copyOfRange(resultStrides, axis, dims.length);
+        var innerAxisStrides = Arrays.copyOfRange(axisStrides, axis, dims.length);
+        var stride =
+                new NdStridedLoop(
+                                innerDims,
+                                new int[3],
+                                innerStrides,
+                                innerResultStrides,
+                                innerAxisStrides)
+                        .runStride(0);
+        NdStridedLoop.RunConsumer consumer =
+                (o, n) -> {
+                    var r = o[1];
+                    switch (reduction) {
+                        case SUM, MEAN -> {
+                            for (int i = 0; i < n; i++)
+                                add(result, compensation, r + i, buffer.get(o[0] + i * stride));
+                        }
+                        case NORM -> {
+                            for (int i = 0; i < n; i++) {
+                                var v = buffer.get(o[0] + i * stride);
+                                add(result, compensation, r + i, v * v);
+                            }
+                        }
+                        case MIN -> {
+                            for (int i = 0; i < n; i++)
+                                result[r + i] =
+                                        Math.min(result[r + i], buffer.get(o[0] + i * stride));
+                        }
+                        case MAX -> {
+                            for (int i = 0; i < n; i++)
+                                result[r + i] =
+                                        Math.max(result[r + i], buffer.get(o[0] + i * stride));
+                        }
+                        case ARGMAX -> {
+                            for (int i = 0; i < n; i++) {
+                                var v = buffer.get(o[0] + i * stride);
+                                if (positions[r + i] < 0 || isGreater(v, result[r + i])) {
+                                    result[r + i] = v;
+                                    positions[r + i] = o[2];
+                                }
+                            }
+                        }
+                    }
+                };
+        var first = firstItem(mapper, dims);
+        if (axis == 0) {
+            new NdStridedLoop(
+                            innerDims,
+                            new int[] {first, 0, 0},
+                            innerStrides,
+                            innerResultStrides,
+                            innerAxisStrides)
+                    .forEach(consumer);
+        } else {
+            // only the dimensions before the axis are split between the tasks
+            var outer =
+                    new NdStridedLoop(
+                            Arrays.copyOf(dims, axis),
+                            new int[] {first, 0},
+                            Arrays.copyOf(strides, axis),
+                            Arrays.copyOf(resultStrides, axis));
+            var outerStride = outer.runStride(0);
+            var outerResultStride = outer.runStride(1);
+            executor.forEach(
+                    outer,
+                    a.shape().subsize(axis),
+                    (o, n) -> {
+                        for (int i = 0; i < n; i++)
+                            new NdStridedLoop(
+                                            innerDims,
+                                            new int[] {
+                                                o[0] + i * outerStride,
+                                                o[1] + i * outerResultStride,
+                                                0
+                                            },
+                                            innerStrides,
+                                            innerResultStrides,
+                                            innerAxisStrides)
+                                    .forEach(consumer);
+                    });
+        }
+        for (int i = 0; i < size; i++) {
+            result[i] =
+                    switch (reduction) {
+                        case SUM -> sum(result[i], compensation[i]);
+                        case MEAN -> sum(result[i], compensation[i]) / dims[axis];
+                        case NORM -> Math.sqrt(sum(result[i], compensation[i]));
+                        case MIN, MAX -> result[i];
+                        case ARGMAX -> positions[i];
+                    };
+        }
+        return result;
+    }
+
+    /** Accumulator of the items of the runs */
+    private static class Accumulator {
+        private final Reduction reduction;
+        private double value;
+        private double compensation;
+        private int position;
+        private double[] scratch;
+
+        Accumulator(Reduction reduction) {
+            this.reduction = reduction;
+            reset();
+        }
+
+        void reset() {
+            value =
+                    switch (reduction) {
+                        case MIN -> Double.POSITIVE_INFINITY;
+                        case MAX, ARGMAX -> Double.NEGATIVE_INFINITY;
+                        default -> 0;
+                    };
+            compensation = 0;
+            position = -1;
+        }
+
+        /**
+         * @param position row-major position of the first item
+         */
+        void accept(DoubleBuffer buffer, int index, int stride, int position, int length) {
+            if (stride == 1 && buffer.hasArray()) {
+                accept(buffer.array(), buffer.arrayOffset() + index, position, length);
+                return;
+            }
+            if (scratch == null) scratch = new double[BLOCK];
+            for (int i = 0; i < length; i += BLOCK) {
+                var n = Math.min(BLOCK, length - i);
+                if (stride == 1) buffer.get(index + i, scratch, 0, n);
+                else for (int j = 0; j < n; j++) scratch[j] = buffer.get(index + (i + j) * stride);
+                accept(scratch, 0, position + i, n);
+            }
+        }
+
+        void accept(double[] a, int from, int position, int length) {
+            switch (reduction) {
+                case SUM, MEAN -> {
+                    for (int i = 0; i < length; i += BLOCK)
+                        add(blockSum(a, from + i, Math.min(BLOCK, length - i)));
+                }
+                case NORM -> {
+                    for (int i = 0; i < length; i += BLOCK)
+                        add(blockSumOfSquares(a, from + i, Math.min(BLOCK, length - i)));
+                }
+                case MIN -> {
+                    var v = value;
+                    for (int i = 0; i < length; i++) v = Math.min(v, a[from + i]);
+                    value = v;
+                }
+                case MAX -> {
+                    var v = value;
+                    for (int i = 0; i < length; i++) v = Math.max(v, a[from + i]);
+                    value = v;
+                }
+                case ARGMAX -> {
+                    for (int i = 0; i < length; i++) {
+                        var v = a[from + i];
+                        if (this.position < 0 || isGreater(v, value)) {
+                            value = v;
+                            this.position = position + i;
+                        }
+                    }
+                }
+            }
+        }
+
+        /** Combine with the accumulator of the items which follow the items of this accumulator */
+        Accumulator combine(Accumulator other) {
+            switch (reduction) {
+                case SUM, MEAN, NORM -> {
+                    add(other.value);
+                    compensation += other.compensation;
+                }
+                case MIN -> value = Math.min(value, other.value);
+                case MAX -> value = Math.max(value, other.value);
+                case ARGMAX -> {
+                    if (other.position >= 0 && (position < 0 || isGreater(other.value, value))) {
+                        value = other.value;
+                        position = other.position;
+                    }
+                }
+            }
+            return this;
+        }
+
+        double result(int count) {
+            return switch (reduction) {
+                case SUM -> sum(value, compensation);
+                case MEAN -> sum(value, compensation) / count;
+                case NORM -> Math.sqrt(sum(value, compensation));
+                case MIN, MAX -> value;
+                case ARGMAX -> position;
+            };
+        }
+
+        private void add(double v) {
+            var t = value + v;
+            compensation += Math.abs(value) >= Math.abs(v) ? (value - t) + v : (v - t) + value;
+            value = t;
+        }
+    }
+
+    /** Sum with independent partial sums which lets CPU to pipeline the additions */
+    private static double blockSum(double[] a, int from, int length) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var i = 0;
+        for (; i + 3 < length; i += 4) {
+            s0 += a[from + i];
+            s1 += a[from + i + 1];
+            s2 += a[from + i + 2];
+            s3 += a[from + i + 3];
+        }
+        for (; i < length; i++) s0 += a[from + i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static double blockSumOfSquares(double[] a, int from, int length) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var i = 0;
+        for (; i + 3 < length; i += 4) {
+            s0 += a[from + i] * a[from + i];
+            s1 += a[from + i + 1] * a[from + i + 1];
+            s2 += a[from + i + 2] * a[from + i + 2];
+            s3 += a[from + i + 3] * a[from + i + 3];
+        }
+        for (; i < length; i++) s0 += a[from + i] * a[from + i];
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    private static void add(double[] sums, double[] compensations, int i, double v) {
+        var s = sums[i];
+        var t = s + v;
+        compensations[i] += Math.abs(s) >= Math.abs(v) ? (s - t) + v : (v - t) + s;
+        sums[i] = t;
+    }
+
+    /** Compensation is meaningless when the sum overflowed or became NaN */
+    private static double sum(double value, double compensation) {
+        return Double.isFinite(value) ? value + compensation : value;
+    }
+
+    private static boolean isGreater(double v, double max) {
+        return v > max || (Double.isNaN(v) && !Double.isNaN(max));
+    }
+
+    private static int firstItem(NdTo1dMapper mapper, int[] dims) {
+        var last = new int[dims.length];
+        for (int d = 0; d < dims.length; d++) last[d] = dims[d] - 1;
+        // bounds of all items are checked here once
+        mapper.map(last);
+        return mapper.map(new int[dims.length]);
+    }
+
+    private static int[] rowMajorStrides(int[] dims) {
+        var strides = new int[dims.length];
+        var stride = 1;
+        for (int d = dims.length - 1; d >= 0; d--) {
+            strides[d] = stride;
+            stride *= dims[d];
+        }
+        return strides;
+    }
+
+    private static int[] remove(int[] a, int i) {
+        var out = new int[a.length - 1];
+        System.arraycopy(a, 0, out, 0, i);
+        System.arraycopy(a, i + 1, out, i, a.length - i - 1);
+        return out;
+    }
+}
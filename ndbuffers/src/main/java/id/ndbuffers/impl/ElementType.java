@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+/**
+ * Types of the items which ndbuffers can store
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public enum ElementType {
+    DOUBLE(1, Double.BYTES);
+
+    private final byte code;
+    private final int bytes;
+
+    ElementType(int code, int bytes) {
+        this.code = (byte) code;
+        this.bytes = bytes;
+    }
+
+    /** Code which identifies the type inside the serialized data */
+    public byte code() {
+        return code;
+    }
+
+    /** Size of one item in bytes */
+    public int bytes() {
+        return bytes;
+    }
+
+    public static ElementType ofCode(byte code) {
+        for (var type : values()) {
+            if (type.code == code) return type;
+        }
+        throw new IllegalArgumentException("Unknown element type " + code);
+    }
+}
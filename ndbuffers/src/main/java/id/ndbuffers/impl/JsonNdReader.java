@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.Shape;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Parses JSON nested arrays of numbers in a single pass (see {@link JsonNdWriter}).
+ *
+ * <p>Numbers are stored directly into the growing array of doubles in the order they appear, which
+ * is the row-major order of the result. {@link Shape} is inferred from the lengths of the arrays on
+ * each nesting level, which should be the same for all arrays of that level.
+ *
+ * <p>Input can be either JSON object with the arrays inside the "data" field or the arrays alone.
+ * Besides regular JSON numbers, NaN, Infinity and -Infinity are accepted too.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class JsonNdReader {
+    private static final int CHUNK_SIZE = 1 << 13;
+    private static final int MAX_DEPTH = 32;
+    private static final int MAX_FAST_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+        1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    public record Items(Shape shape, double[] data) {}
+
+    private final Reader in;
+    private final char[] chunk = new char[CHUNK_SIZE];
+    private final StringBuilder token = new StringBuilder();
+    private int position;
+    private int limit;
+    private long consumed;
+
+    public JsonNdReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * @throws IOException if input is not valid JSON or arrays inside it do not form ndbuffer
+     */
+    public Items read() throws IOException {
+        Items items;
+        var c = skipWhitespaces();
+        if (c == '{') {
+            next();
+            expect('"');
+            readName();
+            expect(':');
+            items = readArrays();
+            expect('}');
+        } else {
+            items = readArrays();
+        }
+        if (skipWhitespaces() != -1) throw error("Unexpected content after the end of JSON");
+        return items;
+    }
+
+    private void readName() throws IOException {
+        token.setLength(0);
+        for (int c = next(); c != '"'; c = next()) {
+            if (c == -1) throw error("Unexpected end of input");
+            token.append((char) c);
+        }
+        if (!token.toString().equals("data")) throw error("Unexpected field \"%s\"", token);
+    }
+
+    private Items readArrays() throws IOException {
+        var dims = new int[MAX_DEPTH];
+        var counts = new int[MAX_DEPTH];
+        Arrays.fill(dims, -1);
+        var data = new double[256];
+        var size = 0;
+        var rank = -1;
+        var depth = 0;
+        do {
+            var c = skipWhitespaces();
+            if (depth > 0 && counts[depth] > 0 && c != ']') {
+                if (c != ',') throw error("Expected ',' or ']'");
+                next();
+                c = skipWhitespaces();
+            }
+            if (c == '[') {
+                next();
+                if (depth == rank) throw error("Expected number but found array");
+                if (++depth == MAX_DEPTH) throw error("Too many dimensions");
+                counts[depth] = 0;
+            } else if (c == ']' && depth > 0) {
+                next();
+                if (counts[depth] == 0) throw error("Empty arrays are not supported");
+                if (dims[depth] == -1) dims[depth] = counts[depth];
+                else if (dims[depth] != counts[depth])
+                    throw error(
+                            "Expected array of length %d but found %d", dims[depth], counts[depth]);
+                depth--;
+                counts[depth]++;
+            } else if (depth == 0) {
+                throw error("Expected array");
+            } else {
+                if (rank == -1) rank = depth;
+                else if (depth != rank) throw error("Expected array but found number");
+                if (size == data.length) data = Arrays.copyOf(data, 2 * size);
+                data[size++] = readNumber();
+                counts[depth]++;
+            }
+        } while (depth > 0);
+        var shape = new Shape(Arrays.copyOfRange(dims, 1, rank + 1));
+        return new Items(shape, size == data.length ? data : Arrays.copyOf(data, size));
+    }
+
+    /**
+     * Numbers with up to {@link #MAX_FAST_DIGITS} significant digits and small exponents are exact
+     * doubles scaled by exact power of ten, so they are computed directly with single rounding.
+     * Others are parsed by {@link Double#parseDouble(String)}.
+     */
+    private double readNumber() throws IOException {
+        token.setLength(0);
+        var negative = false;
+        var mantissa = 0L;
+        var digits = 0;
+        var exponent = 0;
+        var c = peek();
+        if (c == '-') {
+            negative = true;
+            token.append((char) next());
+            c = peek();
+        }
+        if (c == 'N' || c == 'I') return readNonFinite(negative);
+        if (!isDigit(c)) throw error("Expected number");
+        for (; isDigit(c); c = peek()) {
+            token.append((char) next());
+            if (mantissa != 0 || c != '0') {
+                mantissa = 10 * mantissa + (c - '0');
+                digits++;
+            }
+        }
+        if (c == '.') {
+            token.append((char) next());
+            c = peek();
+            if (!isDigit(c)) throw error("Expected digit");
+            for (; isDigit(c); c = peek()) {
+                token.append((char) next());
+                if (mantissa != 0 || c != '0') {
+                    mantissa = 10 * mantissa + (c - '0');
+                    digits++;
+                }
+                exponent--;
+            }
+        }
+        var fast = true;
+        if (c == 'e' || c == 'E') {
+            token.append((char) next());
+            c = peek();
+            var negativeExponent = c == '-';
+            if (c == '-' || c == '+') {
+                token.append((char) next());
+                c = peek();
+            }
+            if (!isDigit(c)) throw error("Expected digit");
+            var value = 0;
+            for (; isDigit(c); c = peek()) {
+                token.append((char) next());
+                if (value < 1000) value = 10 * value + (c - '0');
+                else fast = false;
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (fast && digits <= MAX_FAST_DIGITS && Math.abs(exponent) < POWERS_OF_TEN.length) {
+            var value =
+                    exponent < 0
+                            ? mantissa / POWERS_OF_TEN[-exponent]
+                            : mantissa * POWERS_OF_TEN[exponent];
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(token.toString());
+    }
+
+    private double readNonFinite(boolean negative) throws IOException {
+        token.setLength(0);
+        while (Character.isLetter(peek())) token.append((char) next());
+        var name = token.toString();
+        if (name.equals("Infinity"))
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        if (name.equals("NaN") && !negative) return Double.NaN;
+        throw error("Unexpected value %s", name);
+    }
+
+    private boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private void expect(char expected) throws IOException {
+        if (skipWhitespaces() != expected) throw error("Expected '%s'", expected);
+        next();
+    }
+
+    private int skipWhitespaces() throws IOException {
+        var c = peek();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            next();
+            c = peek();
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            consumed += limit;
+            position = 0;
+            limit = Math.max(in.read(chunk), 0);
+            if (limit == 0) return -1;
+        }
+        return chunk[position];
+    }
+
+    private int next() throws IOException {
+        var c = peek();
+        if (c != -1) position++;
+        return c;
+    }
+
+    private IOException error(String format, Object... args) {
+        return new IOException(
+                "%s at position %d".formatted(format.formatted(args), consumed + position));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.DoubleNdBuffer;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+
+/**
+ * Streams items of {@link DoubleNdBuffer} as JSON nested arrays into {@link Appendable}.
+ *
+ * <p>Items are read directly from the data of the ndbuffer in the row-major order and the output is
+ * passed to {@link Appendable} in chunks of fixed size, so memory used does not depend on the size
+ * of the ndbuffer.
+ *
+ * <p>Pretty output puts each innermost array on a separate line. One dimensional ndbuffers are
+ * printed there as single row matrices. Compact output has no whitespaces and its nesting always
+ * matches the {@link id.ndbuffers.Shape} of the ndbuffer.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class JsonNdWriter {
+    private static final int CHUNK_SIZE = 1 << 13;
+
+    private final DoubleFormatter formatter = new DoubleFormatter();
+    private final boolean compact;
+    private final boolean roundTrip;
+
+    public JsonNdWriter(boolean compact, boolean roundTrip) {
+        this.compact = compact;
+        this.roundTrip = roundTrip;
+    }
+
+    public void write(DoubleNdBuffer ndbuffer, Appendable out) throws IOException {
+        var mapper = NdTo1dMapper.of(ndbuffer);
+        var shape = ndbuffer.shape();
+        mapper.checkBounds();
+        var offset = mapper.offset();
+        var dims = shape.dims();
+        var strides = mapper.strides();
+        if (dims.length == 1 && !compact) {
+            dims = new int[] {1, dims[0]};
+            strides = new int[] {0, strides[0]};
+        }
+        var chunk = out instanceof StringBuilder buf ? buf : new StringBuilder(2 * CHUNK_SIZE);
+        var state = new State(dims, strides, ndbuffer.duplicate(), chunk, out);
+        chunk.append(compact ? "{\"data\":" : "{ \"data\" : ");
+        writeArray(state, 0, offset);
+        chunk.append(compact ? "}" : " }");
+        state.flush();
+    }
+
+    private void writeArray(State state, int depth, int offset) throws IOException {
+        var chunk = state.chunk;
+        var size = state.dims[depth];
+        var stride = state.strides[depth];
+        chunk.append('[');
+        if (depth == state.dims.length - 1) {
+            for (int i = 0; i < size; i++) {
+                if (i > 0) chunk.append(compact ? "," : ", ");
+                var value = state.data.get(offset + i * stride);
+                if (roundTrip) formatter.formatRoundTrip(value, chunk);
+                else formatter.format(value, chunk);
+                state.flushIfFull();
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                if (i > 0) chunk.append(',');
+                newLine(state, depth + 1);
+                writeArray(state, depth + 1, offset + i * stride);
+            }
+            newLine(state, depth);
+        }
+        chunk.append(']');
+    }
+
+    private void newLine(State state, int depth) {
+        if (compact) return;
+        state.chunk.append('\n');
+        // matrices are not indented relative to their brackets, higher dimensions are
+        var indent = state.dims.length == 2 ? depth : depth + 1;
+        for (int i = 0; i < indent; i++) state.chunk.append(' ');
+    }
+
+    private record State(
+            int[] dims, int[] strides, DoubleBuffer data, StringBuilder chunk, Appendable out) {
+
+        void flushIfFull() throws IOException {
+            if (chunk.length() >= CHUNK_SIZE) flush();
+        }
+
+        void flush() throws IOException {
+            if (chunk == out) return;
+            out.append(chunk);
+            chunk.setLength(0);
+        }
+    }
+}
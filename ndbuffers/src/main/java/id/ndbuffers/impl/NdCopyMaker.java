@@ -17,92 +17,240 @@
  */
 package id.ndbuffers.impl;
 
-import id.ndbuffers.DoubleNdBuffer;
-import id.ndbuffers.NdIndexUtils;
+import id.ndbuffers.NdBuffer;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.util.Arrays;
-import java.util.stream.IntStream;
 
 /**
- * Copy implementation which prioritizes bulk copy ({@link ByteBuffer#put(ByteBuffer)}) when it is
- * possible instead of copying one item at a time. Bulk copy is optional operation and when it is
- * supported by the system it gives better performance.
+ * Copy implementation which prioritizes bulk copy ({@link DoubleBuffer#put(int, DoubleBuffer, int,
+ * int)}) when it is possible instead of copying one item at a time. Bulk copy is optional operation
+ * and when it is supported by the system it gives better performance.
+ *
+ * <p>Both ndbuffers can have arbitrary strides (ex. stepped views or blocks inside larger
+ * ndbuffers). Inner dimensions which are stored consecutively in both ndbuffers are merged into one
+ * run of items which is copied in bulk, so only the outer dimensions are iterated over (see {@link
+ * NdStridedLoop}). When inner dimension is not consecutive the items of the run are copied one by
+ * one.
+ *
+ * <p>Bulk copy is done using the {@link Buffer} type of the ndbuffers so items are never converted
+ * to other primitive types. Both ndbuffers are expected to be of the same type.
+ *
+ * <p>When the last two dimensions are stored in the opposite orders in the source and destination
+ * (ex. copying transposed view, see {@link id.ndbuffers.DoubleNdBuffer#transpose()}) items are
+ * copied in square tiles, so that both source and destination items of the tile stay in the CPU
+ * cache while it is being copied.
+ *
+ * <p>Runs are copied by {@link NdLoopExecutor} so large ndbuffers can be copied in parallel.
  *
  * @author lambdaprime intid@protonmail.com
  */
 public class NdCopyMaker {
-    private final NdIndexUtils indexUtils = new NdIndexUtils();
+    private static final int TILE = 32;
+    private final NdLoopExecutor executor;
+
+    public NdCopyMaker() {
+        this(new NdLoopExecutor());
+    }
 
-    public void copy(DoubleNdBuffer from, int[] fromAt, DoubleNdBuffer to, int[] toAt) {
-        if (!indexUtils.isConsecutive(from, fromAt, from.shape().lastIndex()))
-            throw new UnsupportedOperationException();
-        var fromLen = from.shape().dims().length;
-        var destinationDim = to.shape().dims().length - fromLen;
-        if (destinationDim < 0) throw new IllegalArgumentException();
-        copyToInternal(from, 0, fromAt, to, destinationDim, toAt);
+    public NdCopyMaker(NdLoopExecutor executor) {
+        this.executor = executor;
     }
 
-    private void copyToInternal(
-            DoubleNdBuffer src,
-            int srcDim,
-            int[] srcStart,
-            DoubleNdBuffer dst,
-            int dstDim,
-            int[] dstStart) {
-        var sdims = src.shape().dims();
-        // last index
-        var dstEnd =
-                IntStream.range(0, dstStart.length)
-                        .map(i -> dstStart[i] + (i < dstDim ? 0 : sdims[srcDim + i - dstDim] - 1))
-                        .toArray();
-        if (indexUtils.isConsecutive(dst, dstStart, dstEnd)) {
-            // if it is a last dimension and since it is consecutive - do bulk copy
-            if (srcDim == sdims.length - 1) {
-                copyBulk(src, srcStart, sdims[srcDim], dst, dstStart);
-                return;
-            }
-            var ddims = dst.shape().dims();
-            // if shape of all the rest dimensions are equal and since they are consecutive - do
-            // bulk copy
-            if (arrayEquals(sdims, srcDim + 1, ddims, dstDim + 1)) {
-                if (src.shape().dims()[srcDim] > ddims[dstDim])
-                    throw new RuntimeException(
-                            "Shape of source NdBuffer should be less or equal to shape of its"
-                                    + " destination");
-                copyBulk(
-                        src,
-                        srcStart,
-                        dst.dataBufferIndex(dstEnd) - dst.dataBufferIndex(dstStart) + 1,
-                        dst,
-                        dstStart);
-                return;
-            }
-            var newSrcStart = Arrays.copyOf(srcStart, srcStart.length);
-            var newDstStart = Arrays.copyOf(dstStart, dstStart.length);
-            while (newSrcStart[srcDim] < sdims[srcDim]) {
-                copyToInternal(src, srcDim + 1, newSrcStart, dst, dstDim + 1, newDstStart);
-                newSrcStart[srcDim]++;
-                newDstStart[dstDim]++;
-            }
-        } else {
-            throw new RuntimeException();
+    /**
+     * Copy items of the source ndbuffer starting from fromAt into destination ndbuffer starting
+     * from toAt.
+     *
+     * <p>Source ndbuffer is aligned with the lower order dimensions of the destination ndbuffer.
+     * When toAt has less indices than the destination ndbuffer has dimensions, the missing higher
+     * order indices are treated as 0.
+     */
+    public void copy(NdBuffer from, int[] fromAt, NdBuffer to, int[] toAt) {
+        var sdims = from.shape().dims();
+        var ddims = to.shape().dims();
+        var destinationDim = ddims.length - sdims.length;
+        if (destinationDim < 0)
+            throw new IllegalArgumentException(
+                    "Source %s has more dimensions than destination %s"
+                            .formatted(from.shape(), to.shape()));
+        if (toAt.length < ddims.length) {
+            var indices = new int[ddims.length];
+            System.arraycopy(toAt, 0, indices, ddims.length - toAt.length, toAt.length);
+            toAt = indices;
         }
+        var dims = new int[sdims.length];
+        var srcEnd = new int[sdims.length];
+        var dstEnd = Arrays.copyOf(toAt, toAt.length);
+        for (int i = 0; i < dims.length; i++) {
+            dims[i] = sdims[i] - fromAt[i];
+            if (dims[i] <= 0) return;
+            srcEnd[i] = sdims[i] - 1;
+            dstEnd[destinationDim + i] += dims[i] - 1;
+            if (dstEnd[destinationDim + i] >= ddims[destinationDim + i])
+                throw new IllegalArgumentException(
+                        "Shape of source NdBuffer should be less or equal to shape of its"
+                                + " destination");
+        }
+        var srcMapper = NdTo1dMapper.of(from);
+        var dstMapper = NdTo1dMapper.of(to);
+        // bounds of all copied items are checked here once by mapping first and last of them
+        srcMapper.map(srcEnd);
+        dstMapper.map(dstEnd);
+        var srcStrides = srcMapper.strides();
+        var dstStrides = Arrays.copyOfRange(dstMapper.strides(), destinationDim, ddims.length);
+        copy(
+                from.duplicate(),
+                srcMapper.map(fromAt),
+                srcStrides,
+                to.duplicate(),
+                dstMapper.map(toAt),
+                dstStrides,
+                dims);
+    }
+
+    private void copy(
+            Buffer src,
+            int srcIndex,
+            int[] srcStrides,
+            Buffer dst,
+            int dstIndex,
+            int[] dstStrides,
+            int[] dims) {
+        if (isTransposed(srcStrides, dstStrides, dims)) {
+            copyTiles(src, srcIndex, srcStrides, dst, dstIndex, dstStrides, dims);
+            return;
+        }
+        var loop = new NdStridedLoop(dims, new int[] {srcIndex, dstIndex}, srcStrides, dstStrides);
+        var srcStride = loop.runStride(0);
+        var dstStride = loop.runStride(1);
+        executor.forEach(
+                loop,
+                (offsets, length) ->
+                        copyRun(src, offsets[0], srcStride, dst, offsets[1], dstStride, length));
+    }
+
+    /**
+     * Loop over the outer dimensions and the rows of tiles, the third operand of the loop is the
+     * index of the first row of the tile
+     */
+    private void copyTiles(
+            Buffer src,
+            int srcIndex,
+            int[] srcStrides,
+            Buffer dst,
+            int dstIndex,
+            int[] dstStrides,
+            int[] dims) {
+        var n = dims.length;
+        var rows = dims[n - 2];
+        var cols = dims[n - 1];
+        var loopDims = Arrays.copyOf(dims, n - 1);
+        loopDims[n - 2] = (rows + TILE - 1) / TILE;
+        var loopSrcStrides = Arrays.copyOf(srcStrides, n - 1);
+        loopSrcStrides[n - 2] *= TILE;
+        var loopDstStrides = Arrays.copyOf(dstStrides, n - 1);
+        loopDstStrides[n - 2] *= TILE;
+        var rowStrides = new int[n - 1];
+        rowStrides[n - 2] = TILE;
+        var loop =
+                new NdStridedLoop(
+                        loopDims,
+                        new int[] {srcIndex, dstIndex, 0},
+                        loopSrcStrides,
+                        loopDstStrides,
+                        rowStrides);
+        var srcStride = loop.runStride(0);
+        var dstStride = loop.runStride(1);
+        var sr = srcStrides[n - 2];
+        var sc = srcStrides[n - 1];
+        var dr = dstStrides[n - 2];
+        var dc = dstStrides[n - 1];
+        var rowStride = loop.runStride(2);
+        executor.forEach(
+                loop,
+                TILE * cols,
+                (offsets, length) -> {
+                    for (int i = 0; i < length; i++) {
+                        var s = offsets[0] + i * srcStride;
+                        var d = offsets[1] + i * dstStride;
+                        var height = Math.min(TILE, rows - (offsets[2] + i * rowStride));
+                        for (int c = 0; c < cols; c += TILE) {
+                            var width = Math.min(TILE, cols - c);
+                            for (int r = 0; r < height; r++)
+                                copyRun(
+                                        src,
+                                        s + r * sr + c * sc,
+                                        sc,
+                                        dst,
+                                        d + r * dr + c * dc,
+                                        dc,
+                                        width);
+                        }
+                    }
+                });
     }
 
-    private boolean arrayEquals(int[] a, int fromA, int[] b, int fromB) {
-        return IntStream.range(0, a.length - fromA)
-                .filter(i -> a[fromA + i] != b[fromB + i])
-                .findAny()
-                .isEmpty();
+    /**
+     * Dimensions of the tile which are consecutive in one of the ndbuffers are strided in the
+     * other, so copying it row by row would read or write one item per cache line
+     */
+    private boolean isTransposed(int[] srcStrides, int[] dstStrides, int[] dims) {
+        var n = dims.length;
+        if (n < 2 || dims[n - 2] < TILE || dims[n - 1] < TILE) return false;
+        var srcRowMajor = Math.abs(srcStrides[n - 1]) < Math.abs(srcStrides[n - 2]);
+        var dstRowMajor = Math.abs(dstStrides[n - 1]) < Math.abs(dstStrides[n - 2]);
+        return srcRowMajor != dstRowMajor;
     }
 
-    private void copyBulk(
-            DoubleNdBuffer src, int[] srcStart, int srcLength, DoubleNdBuffer dst, int[] dstStart) {
-        var dstBuf = dst.duplicate();
-        var srcBuf = src.duplicate();
-        srcBuf.position(src.dataBufferIndex(srcStart));
-        dstBuf.position(dst.dataBufferIndex(dstStart));
-        if (srcLength >= 0) srcBuf.limit(srcBuf.position() + srcLength);
-        dstBuf.put(srcBuf);
+    private void copyRun(
+            Buffer src,
+            int srcIndex,
+            int srcStride,
+            Buffer dst,
+            int dstIndex,
+            int dstStride,
+            int length) {
+        var isBulk = srcStride == 1 && dstStride == 1;
+        if (dst instanceof DoubleBuffer d && src instanceof DoubleBuffer s) {
+            if (isBulk) d.put(dstIndex, s, srcIndex, length);
+            else
+                for (int i = 0; i < length; i++)
+                    d.put(dstIndex + i * dstStride, s.get(srcIndex + i * srcStride));
+        } else if (dst instanceof FloatBuffer d && src instanceof FloatBuffer s) {
+            if (isBulk) d.put(dstIndex, s, srcIndex, length);
+            else
+                for (int i = 0; i < length; i++)
+                    d.put(dstIndex + i * dstStride, s.get(srcIndex + i * srcStride));
+        } else if (dst instanceof IntBuffer d && src instanceof IntBuffer s) {
+            if (isBulk) d.put(dstIndex, s, srcIndex, length);
+            else
+                for (int i = 0; i < length; i++)
+                    d.put(dstIndex + i * dstStride, s.get(srcIndex + i * srcStride));
+        } else if (dst instanceof LongBuffer d && src instanceof LongBuffer s) {
+            if (isBulk) d.put(dstIndex, s, srcIndex, length);
+            else
+                for (int i = 0; i < length; i++)
+                    d.put(dstIndex + i * dstStride, s.get(srcIndex + i * srcStride));
+        } else if (dst instanceof ShortBuffer d && src instanceof ShortBuffer s) {
+            if (isBulk) d.put(dstIndex, s, srcIndex, length);
+            else
+                for (int i = 0; i < length; i++)
+                    d.put(dstIndex + i * dstStride, s.get(srcIndex + i * srcStride));
+        } else if (dst instanceof ByteBuffer d && src instanceof ByteBuffer s) {
+            if (isBulk) d.put(dstIndex, s, srcIndex, length);
+            else
+                for (int i = 0; i < length; i++)
+                    d.put(dstIndex + i * dstStride, s.get(srcIndex + i * srcStride));
+        } else
+            throw new IllegalArgumentException(
+                    "Cannot copy %s to %s"
+                            .formatted(
+                                    src.getClass().getSimpleName(),
+                                    dst.getClass().getSimpleName()));
     }
 }
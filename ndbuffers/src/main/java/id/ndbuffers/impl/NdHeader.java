@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.Shape;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Header which makes stored ndbuffers self-describing so that they can be read back without any
+ * other metadata.
+ *
+ * <p>Header layout (all header fields are in {@link ByteOrder#BIG_ENDIAN}):
+ *
+ * <ul>
+ *   <li>magic - 4 bytes "NDBF"
+ *   <li>version - 1 byte
+ *   <li>byte order of the items - 1 byte, 0 for {@link ByteOrder#BIG_ENDIAN} and 1 for {@link
+ *       ByteOrder#LITTLE_ENDIAN}
+ *   <li>element type - 1 byte, see {@link ElementType#code()}
+ *   <li>reserved - 1 byte
+ *   <li>number of dimensions N - 4 bytes
+ *   <li>N dimension sizes - 4 bytes each
+ *   <li>padding - up to the next multiple of {@link #ALIGNMENT} bytes
+ * </ul>
+ *
+ * <p>Items follow the header in the row-major order. Because header size is aligned, items stay
+ * aligned when the file is memory mapped.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public record NdHeader(Shape shape, ElementType type, ByteOrder order) {
+    private static final byte[] MAGIC = {'N', 'D', 'B', 'F'};
+    private static final byte VERSION = 1;
+    private static final int FIXED_SIZE = 12;
+    public static final int ALIGNMENT = 64;
+
+    /** Maximum number of dimensions accepted when the header is read */
+    public static final int MAX_RANK = 64;
+
+    /** Size of the header in bytes including the padding */
+    public int size() {
+        var size = FIXED_SIZE + shape.dims().length * Integer.BYTES;
+        return (size + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+    }
+
+    /** Size of all the items in bytes */
+    public long dataSize() {
+        return (long) shape.size() * type.bytes();
+    }
+
+    public ByteBuffer encode() {
+        var buf = ByteBuffer.allocate(size()).order(ByteOrder.BIG_ENDIAN);
+        buf.put(MAGIC);
+        buf.put(VERSION);
+        buf.put((byte) (order == ByteOrder.BIG_ENDIAN ? 0 : 1));
+        buf.put(type.code());
+        buf.put((byte) 0);
+        var dims = shape.dims();
+        buf.putInt(dims.length);
+        for (var d : dims) buf.putInt(d);
+        return buf.rewind();
+    }
+
+    /**
+     * Read header from the current position of the channel. Channel is left positioned right after
+     * the header (including its padding), at the first item.
+     *
+     * @throws IOException if the header is malformed or, for {@link SeekableByteChannel}, the
+     *     channel has less data than the header describes
+     */
+    public static NdHeader read(ReadableByteChannel channel) throws IOException {
+        var fixed = readFully(channel, FIXED_SIZE);
+        var magic = new byte[MAGIC.length];
+        fixed.get(magic);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) throw new IOException("Not an ndbuffer data");
+        }
+        var version = fixed.get();
+        if (version != VERSION) throw new IOException("Unsupported version " + version);
+        var orderCode = fixed.get();
+        var order =
+                switch (orderCode) {
+                    case 0 -> ByteOrder.BIG_ENDIAN;
+                    case 1 -> ByteOrder.LITTLE_ENDIAN;
+                    default -> throw new IOException("Unknown byte order " + orderCode);
+                };
+        var typeCode = fixed.get();
+        fixed.get();
+        var rank = fixed.getInt();
+        if (rank <= 0 || rank > MAX_RANK)
+            throw new IOException("Wrong number of dimensions " + rank);
+        var dimsBuf = readFully(channel, rank * Integer.BYTES);
+        var dims = new int[rank];
+        var count = 1;
+        for (int i = 0; i < rank; i++) {
+            dims[i] = dimsBuf.getInt();
+            if (dims[i] <= 0) throw new IOException("Wrong dimension size " + dims[i]);
+            try {
+                count = Math.multiplyExact(count, dims[i]);
+            } catch (ArithmeticException e) {
+                throw new IOException("Too many items in ndbuffer", e);
+            }
+        }
+        NdHeader header;
+        try {
+            header = new NdHeader(new Shape(dims), ElementType.ofCode(typeCode), order);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Not valid ndbuffer header: " + e.getMessage(), e);
+        }
+        readFully(channel, header.size() - FIXED_SIZE - rank * Integer.BYTES);
+        // check before any memory is allocated for the items
+        if (channel instanceof SeekableByteChannel seekable
+                && seekable.size() - seekable.position() < header.dataSize())
+            throw new IOException("Unexpected end of ndbuffer data");
+        return header;
+    }
+
+    /** Write header into the current position of the channel */
+    public void write(WritableByteChannel channel) throws IOException {
+        var buf = encode();
+        while (buf.hasRemaining()) channel.write(buf);
+    }
+
+    private static ByteBuffer readFully(ReadableByteChannel channel, int size) throws IOException {
+        var buf = ByteBuffer.allocate(size).order(ByteOrder.BIG_ENDIAN);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf) < 0) throw new IOException("Unexpected end of ndbuffer data");
+        }
+        return buf.flip();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.Shape;
+import id.ndbuffers.Shape.IndexConsumer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the indices of the {@link Shape} in the row-major order.
+ *
+ * <p>It covers range [from, to) of flat (row-major) offsets of the indices and splits it along the
+ * outermost dimension which still has more than one index in the range, so the sizes of both parts
+ * are always known exactly.
+ *
+ * <p>N-dimensional index is computed from the flat offset only once when the traversal starts, then
+ * it is incremented.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdIndexSpliterator implements Spliterator<int[]> {
+
+    private final int[] dims;
+    private int from;
+    private final int to;
+    private int[] index;
+
+    public NdIndexSpliterator(Shape shape) {
+        this(shape.dims(), 0, shape.size());
+    }
+
+    private NdIndexSpliterator(int[] dims, int from, int to) {
+        this.dims = dims;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @param consumer receives the same instance of the index array for all the indices
+     */
+    public void forEachRemaining(IndexConsumer consumer) {
+        if (from >= to) return;
+        var index = currentIndex();
+        var last = dims.length - 1;
+        for (int offset = from; offset < to; offset++) {
+            consumer.accept(index, offset);
+            for (int d = last; d >= 0; d--) {
+                if (++index[d] < dims[d]) break;
+                index[d] = 0;
+            }
+        }
+        from = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super int[]> action) {
+        if (from >= to) return false;
+        var index = currentIndex();
+        action.accept(index.clone());
+        from++;
+        for (int d = dims.length - 1; d >= 0; d--) {
+            if (++index[d] < dims[d]) break;
+            index[d] = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super int[]> action) {
+        forEachRemaining((index, offset) -> action.accept(index.clone()));
+    }
+
+    @Override
+    public Spliterator<int[]> trySplit() {
+        if (index != null) return null;
+        for (int d = 0; d < dims.length; d++) {
+            var inner = innerSize(d);
+            var mid = (from + (to - from) / 2) / inner * inner;
+            if (mid > from && mid < to) {
+                var prefix = new NdIndexSpliterator(dims, from, mid);
+                from = mid;
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    private int innerSize(int dim) {
+        var size = 1;
+        for (int d = dim + 1; d < dims.length; d++) size *= dims[d];
+        return size;
+    }
+
+    private int[] currentIndex() {
+        if (index == null) {
+            index = new int[dims.length];
+            var offset = from;
+            for (int d = dims.length - 1; d >= 0; d--) {
+                index[d] = offset % dims[d];
+                offset /= dims[d];
+            }
+        }
+        return index;
+    }
+}
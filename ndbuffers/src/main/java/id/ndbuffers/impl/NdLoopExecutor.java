@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.impl.NdStridedLoop.RunConsumer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Runs {@link NdStridedLoop} either sequentially or in parallel inside {@link ForkJoinPool}.
+ *
+ * <p>In parallel mode the loop is recursively split along its outermost dimensions until each part
+ * has no more items than the threshold. Loops which are smaller than threshold are always run
+ * sequentially in the calling thread.
+ *
+ * <p>Parts of the loop are run concurrently so consumer should only access the items of the runs it
+ * receives and use absolute get/put operations of the buffers.
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdLoopExecutor {
+
+    @FunctionalInterface
+    public interface RunReducer<A> {
+        /** Accumulate items of the run (see {@link RunConsumer}) into the given accumulator */
+        void accept(A accumulator, int[] offsets, int length);
+    }
+
+    /**
+     * Default number of items processed by one task. For doubles it is 256KB which fits into L2
+     * cache of most of the CPUs.
+     */
+    public static final int DEFAULT_THRESHOLD = 1 << 15;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /** Sequential executor */
+    public NdLoopExecutor() {
+        this(null, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Parallel executor
+     *
+     * @param threshold minimal number of items in the loop to run it in parallel, also maximum
+     *     number of items processed by one task
+     */
+    public NdLoopExecutor(ForkJoinPool pool, int threshold) {
+        if (threshold <= 0)
+            throw new IllegalArgumentException("Threshold should be positive: " + threshold);
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public void forEach(NdStridedLoop loop, RunConsumer consumer) {
+        forEach(loop, 1, consumer);
+    }
+
+    /**
+     * @param weight number of ndbuffer items processed for each item of the loop (ex. when each
+     *     item of the loop is a block of items)
+     */
+    public void forEach(NdStridedLoop loop, int weight, RunConsumer consumer) {
+        if (pool == null || (long) loop.size() * weight <= threshold) loop.forEach(consumer);
+        else pool.invoke(new LoopTask(loop, weight, consumer));
+    }
+
+    /**
+     * Reduce all items of the loop. Each part of the loop is reduced into its own accumulator, then
+     * accumulators of the parts are combined in the order of the parts.
+     *
+     * @param accumulator creates new empty accumulator
+     * @param combiner combines accumulator of the preceding part with the accumulator of the part
+     *     which follows it
+     */
+    public <A> A reduce(
+            NdStridedLoop loop,
+            Supplier<A> accumulator,
+            RunReducer<A> reducer,
+            BinaryOperator<A> combiner) {
+        var task = new ReduceTask<>(loop, accumulator, reducer, combiner);
+        if (pool == null || loop.size() <= threshold) return task.compute();
+        return pool.invoke(task);
+    }
+
+    private class LoopTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final NdStridedLoop loop;
+        private final int weight;
+        private final RunConsumer consumer;
+
+        LoopTask(NdStridedLoop loop, int weight, RunConsumer consumer) {
+            this.loop = loop;
+            this.weight = weight;
+            this.consumer = consumer;
+        }
+
+        @Override
+        protected void compute() {
+            if ((long) loop.size() * weight <= threshold || !loop.canSplit()) {
+                loop.forEach(consumer);
+                return;
+            }
+            var parts = loop.split();
+            invokeAll(
+                    new LoopTask(parts[0], weight, consumer),
+                    new LoopTask(parts[1], weight, consumer));
+        }
+    }
+
+    private class ReduceTask<A> extends RecursiveTask<A> {
+        private static final long serialVersionUID = 1L;
+
+        private final NdStridedLoop loop;
+        private final Supplier<A> accumulator;
+        private final RunReducer<A> reducer;
+        private final BinaryOperator<A> combiner;
+
+        ReduceTask(
+                NdStridedLoop loop,
+                Supplier<A> accumulator,
+                RunReducer<A> reducer,
+                BinaryOperator<A> combiner) {
+            this.loop = loop;
+            this.accumulator = accumulator;
+            this.reducer = reducer;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected A compute() {
+            if (loop.size() <= threshold || !loop.canSplit()) {
+                var acc = accumulator.get();
+                loop.forEach((offsets, length) -> reducer.accept(acc, offsets, length));
+                return acc;
+            }
+            var parts = loop.split();
+            var tail = new ReduceTask<>(parts[1], accumulator, reducer, combiner);
+            tail.fork();
+            var head = new ReduceTask<>(parts[0], accumulator, reducer, combiner).compute();
+            return combiner.apply(head, tail.join());
+        }
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.NdBuffer;
+import id.ndbuffers.Shape;
+
+/**
+ * Loop over the items of several ndbuffers of the same shape in the row-major order.
+ *
+ * <p>Inner dimensions which are stored consecutively in all of the ndbuffers are merged into one
+ * run of items so that only the remaining outer dimensions are iterated over. Item indices inside
+ * continuous block storage of each ndbuffer are advanced incrementally by their strides and are
+ * never recomputed from N-dimensional indices.
+ *
+ * <p>Loop can be split along its outermost dimension into smaller loops which can be run in
+ * parallel (see {@link NdLoopExecutor}).
+ *
+ * @author lambdaprime intid@protonmail.com
+ */
+public class NdStridedLoop {
+
+    @FunctionalInterface
+    public interface RunConsumer {
+        /**
+         * @param offsets item index of the first item of the run inside each of the ndbuffers. The
+         *     same array instance is passed for all the runs.
+         * @param length number of items in the run
+         */
+        void accept(int[] offsets, int length);
+    }
+
+    private final int[] dims;
+    private final int[][] strides;
+    private final int[] offsets;
+    private final int outer;
+    private final int runLength;
+    private final int[] runStrides;
+
+    /**
+     * @param dims sizes of the dimensions to iterate over
+     * @param offsets item index of the first item inside each of the ndbuffers
+     * @param strides strides of each of the ndbuffers, they should have the same number of
+     *     dimensions as dims
+     */
+    public NdStridedLoop(int[] dims, int[] offsets, int[]... strides) {
+        this.dims = dims;
+        this.offsets = offsets;
+        this.strides = strides;
+        var outer = dims.length - 1;
+        var runLength = dims[outer];
+        runStrides = new int[strides.length];
+        for (int i = 0; i < strides.length; i++) runStrides[i] = strides[i][outer];
+        while (outer > 0 && (dims[outer - 1] == 1 || isConsecutive(outer - 1, runLength))) {
+            outer--;
+            runLength *= dims[outer];
+        }
+        this.outer = outer;
+        this.runLength = runLength;
+    }
+
+    /**
+     * Loop over all items of the given ndbuffers. All ndbuffers should have the same {@link Shape}.
+     * Bounds of all items are checked here once.
+     */
+    public static NdStridedLoop of(NdBuffer... ndbuffers) {
+        var shape = ndbuffers[0].shape();
+        var offsets = new int[ndbuffers.length];
+        var strides = new int[ndbuffers.length][];
+        var first = new int[shape.dims().length];
+        for (int i = 0; i < ndbuffers.length; i++) {
+            if (!shape.equals(ndbuffers[i].shape()))
+                throw new IllegalArgumentException(
+                        "Shape mismatch %s != %s".formatted(shape, ndbuffers[i].shape()));
+            var mapper = NdTo1dMapper.of(ndbuffers[i]);
+            mapper.checkBounds();
+            offsets[i] = mapper.map(first);
+            strides[i] = mapper.strides();
+        }
+        return new NdStridedLoop(shape.dims(), offsets, strides);
+    }
+
+    /**
+     * Loop over all items of the last ndbuffer. Other ndbuffers are broadcast to its {@link Shape}
+     * (see {@link NdTo1dMapper#broadcast(Shape)}), so their items are repeated along the dimensions
+     * which they do not have or which have size 1. Bounds of all items are checked here once.
+     */
+    public static NdStridedLoop broadcast(NdBuffer... ndbuffers) {
+        var shape = ndbuffers[ndbuffers.length - 1].shape();
+        var offsets = new int[ndbuffers.length];
+        var strides = new int[ndbuffers.length][];
+        var first = new int[shape.dims().length];
+        for (int i = 0; i < ndbuffers.length; i++) {
+            var mapper = NdTo1dMapper.of(ndbuffers[i]);
+            mapper.checkBounds();
+            mapper = mapper.broadcast(shape);
+            offsets[i] = mapper.map(first);
+            strides[i] = mapper.strides();
+        }
+        return new NdStridedLoop(shape.dims(), offsets, strides);
+    }
+
+    /** Stride between the items inside the runs of the given ndbuffer */
+    public int runStride(int ndbuffer) {
+        return runStrides[ndbuffer];
+    }
+
+    /** Total number of items in the loop */
+    public int size() {
+        var size = 1;
+        for (int d : dims) size *= d;
+        return size;
+    }
+
+    /** Loop can be split only when some of its dimensions has more than one item */
+    public boolean canSplit() {
+        return splitDimension() >= 0;
+    }
+
+    /**
+     * Split loop into two loops along its outermost dimension which has more than one item. Items
+     * of both loops together are the same as items of this loop.
+     */
+    public NdStridedLoop[] split() {
+        var dim = splitDimension();
+        if (dim < 0) throw new IllegalStateException("Loop cannot be split");
+        var head = dims.clone();
+        head[dim] = dims[dim] / 2;
+        var tail = dims.clone();
+        tail[dim] = dims[dim] - head[dim];
+        var tailOffsets = offsets.clone();
+        for (int i = 0; i < tailOffsets.length; i++) tailOffsets[i] += strides[i][dim] * head[dim];
+        return new NdStridedLoop[] {
+            new NdStridedLoop(head, offsets, strides), new NdStridedLoop(tail, tailOffsets, strides)
+        };
+    }
+
+    public void forEach(RunConsumer consumer) {
+        var current = offsets.clone();
+        var indices = new int[outer];
+        while (true) {
+            consumer.accept(current, runLength);
+            var d = outer - 1;
+            for (; d >= 0; d--) {
+                if (++indices[d] < dims[d]) {
+                    for (int i = 0; i < current.length; i++) current[i] += strides[i][d];
+                    break;
+                }
+                for (int i = 0; i < current.length; i++)
+                    current[i] -= strides[i][d] * (dims[d] - 1);
+                indices[d] = 0;
+            }
+            if (d < 0) break;
+        }
+    }
+
+    private int splitDimension() {
+        for (int d = 0; d < dims.length; d++) if (dims[d] > 1) return d;
+        return -1;
+    }
+
+    private boolean isConsecutive(int dim, int runLength) {
+        for (int i = 0; i < strides.length; i++) {
+            if (strides[i][dim] != runLength * runStrides[i]) return false;
+        }
+        return true;
+    }
+}
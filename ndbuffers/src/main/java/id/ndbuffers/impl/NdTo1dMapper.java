@@ -18,69 +18,361 @@
 package id.ndbuffers.impl;
 
 import id.ndbuffers.NSlice;
+import id.ndbuffers.NdBuffer;
 import id.ndbuffers.Shape;
 import java.util.Arrays;
 
 /**
- * Maps N-dimensional shape to continuous set of numbers starting from 0.
+ * Maps N-dimensional indices to the item index inside continuous block storage of the {@link
+ * java.nio.Buffer} as {@code offset + indices[0] * strides[0] + ... + indices[N-1] * strides[N-1]}.
  *
- * <p>This mapper is meant to be used with base ndbuffers only and so it does not work with {@link
- * NSlice}
+ * <p>Base ndbuffers use row-major strides of their {@link Shape}. Views do not delegate to the
+ * ndbuffers they point to, instead they fold their {@link NSlice} into the mapper of such ndbuffer
+ * (see {@link #slice(Shape, NSlice)}). This way any view, regardless how many other views it is
+ * nested in, resolves its items with one multiply-add loop against the {@link java.nio.Buffer} of
+ * the base ndbuffer.
  *
  * @author lambdaprime intid@protonmail.com
  */
 public class NdTo1dMapper {
     private final Shape shape;
-    private final int[] prefixSizes;
+    private final int offset;
+    private final int[] strides;
+
+    /**
+     * Upper bound (exclusive) for indices in each dimension. It is less than the dimension size
+     * when the view goes beyond the bounds of the ndbuffer it points to.
+     */
+    private final int[] limits;
 
     public NdTo1dMapper(Shape sourceShape) {
-        this.shape = sourceShape;
-        this.prefixSizes = calcPrefixSizes(shape.dims());
+        this(sourceShape, 0, sourceShape.strides(), sourceShape.dims().clone());
+    }
+
+    private NdTo1dMapper(Shape shape, int offset, int[] strides, int[] limits) {
+        this.shape = shape;
+        this.offset = offset;
+        this.strides = strides;
+        this.limits = limits;
+    }
+
+    /**
+     * Mapper for any ndbuffer. Item indices inside continuous block storage of ndbuffers change
+     * linearly with the N-dimensional indices so the mapper is recovered by querying {@link
+     * NdBuffer#dataBufferIndex(int...)} of the first item and its neighbours in each dimension.
+     */
+    public static NdTo1dMapper of(NdBuffer ndbuffer) {
+        if (ndbuffer instanceof AbstractNdBuffer nd && nd.mapper != null) return nd.mapper;
+        var shape = ndbuffer.shape();
+        var dims = shape.dims();
+        var indices = new int[dims.length];
+        var offset = ndbuffer.dataBufferIndex(indices);
+        var strides = new int[dims.length];
+        for (int i = 0; i < dims.length; i++) {
+            if (dims[i] == 1) continue;
+            indices[i] = 1;
+            strides[i] = ndbuffer.dataBufferIndex(indices) - offset;
+            indices[i] = 0;
+        }
+        return new NdTo1dMapper(shape, offset, strides, dims.clone());
+    }
+
+    /**
+     * Create mapper for the view with the given shape which is created by applying {@link NSlice}
+     * to the ndbuffer of the current mapper.
+     *
+     * <p>{@link NSlice} may have more dimensions than the current mapper. Such higher order
+     * dimensions are allowed only when their slices start from 0 (see {@link #map(int...)}).
+     *
+     * <p>{@link NSlice} may have more dimensions than the view shape. Indices in such higher order
+     * dimensions are fixed to {@link id.ndbuffers.Slice#start()} of their slices (same as {@link
+     * NSlice#map(int...)}).
+     *
+     * <p>Slices with negative indices or steps should be resolved first (see {@link
+     * NSlice#resolve(Shape)}). Negative steps turn into negative strides.
+     */
+    public NdTo1dMapper slice(Shape viewShape, NSlice nslice) {
+        var slices = nslice.slices();
+        var viewDims = viewShape.dims();
+        var n = slices.length;
+        if (n < viewDims.length)
+            throw new IllegalArgumentException(
+                    "Shape %s has more dimensions than %s".formatted(viewShape, nslice));
+        var newOffset = offset;
+        var newStrides = new int[viewDims.length];
+        var newLimits = new int[viewDims.length];
+        for (int i = 0; i < n; i++) {
+            var slice = slices[i];
+            // dimension inside the current mapper
+            var p = i - (n - strides.length);
+            // dimension inside the view
+            var d = i - (n - viewDims.length);
+            if (p < 0) {
+                if (slice.start() != 0)
+                    throw new IllegalArgumentException(
+                            "%s does not match the shape %s".formatted(nslice, shape));
+                if (d >= 0) newLimits[d] = Math.min(viewDims[d], 1);
+                continue;
+            }
+            if (d < 0) checkIndex(slice.start(), p);
+            newOffset += slice.start() * strides[p];
+            if (d < 0) continue;
+            newStrides[d] = slice.step() * strides[p];
+            // number of items of the slice within the limits
+            int available;
+            if (slice.step() > 0) {
+                var length = limits[p] - slice.start();
+                if (length <= 0) continue;
+                available = (length + slice.step() - 1) / slice.step();
+            } else {
+                // reversed slices go towards 0 so only their start can be out of limits
+                checkIndex(slice.start(), p);
+                available = slice.start() / -slice.step() + 1;
+            }
+            newLimits[d] = Math.min(Math.min(viewDims[d], slice.size()), available);
+        }
+        return new NdTo1dMapper(viewShape, newOffset, newStrides, newLimits);
+    }
+
+    /**
+     * Create mapper where dimension i is the dimension axes[i] of the current mapper. Items are not
+     * moved, only the strides are reordered.
+     *
+     * @param axes permutation of the dimensions of the current mapper
+     */
+    public NdTo1dMapper permute(int... axes) {
+        if (axes.length != strides.length)
+            throw new IllegalArgumentException(
+                    "Permutation %s does not match the shape %s"
+                            .formatted(Arrays.toString(axes), shape));
+        var dims = shape.dims();
+        var newDims = new int[axes.length];
+        var newStrides = new int[axes.length];
+        var newLimits = new int[axes.length];
+        var used = new boolean[axes.length];
+        for (int i = 0; i < axes.length; i++) {
+            var axis = axes[i];
+            if (axis < 0 || axis >= axes.length || used[axis])
+                throw new IllegalArgumentException(
+                        "Not valid permutation of the dimensions: " + Arrays.toString(axes));
+            used[axis] = true;
+            newDims[i] = dims[axis];
+            newStrides[i] = strides[axis];
+            newLimits[i] = limits[axis];
+        }
+        return new NdTo1dMapper(new Shape(newDims), offset, newStrides, newLimits);
     }
 
+    /**
+     * Create mapper for the given shape where dimensions of size 1 and the missing leading
+     * dimensions of the current mapper are repeated using zero strides (same as broadcasting in
+     * NumPy). Dimensions of the current mapper are aligned with the last dimensions of the shape.
+     */
+    public NdTo1dMapper broadcast(Shape target) {
+        var dims = shape.dims();
+        var targetDims = target.dims();
+        var lead = targetDims.length - dims.length;
+        if (lead < 0)
+            throw new IllegalArgumentException(
+                    "Shape %s cannot be broadcast to %s".formatted(shape, target));
+        var newStrides = new int[targetDims.length];
+        var newLimits = targetDims.clone();
+        for (int d = 0; d < dims.length; d++) {
+            var t = lead + d;
+            if (dims[d] == targetDims[t]) {
+                newStrides[t] = strides[d];
+                newLimits[t] = limits[d];
+            } else if (dims[d] != 1)
+                throw new IllegalArgumentException(
+                        "Shape %s cannot be broadcast to %s".formatted(shape, target));
+            else if (limits[d] == 0) newLimits[t] = 0;
+        }
+        return new NdTo1dMapper(target, offset, newStrides, newLimits);
+    }
+
+    /**
+     * Create mapper for the given shape with the same number of items which maps them in the same
+     * row-major order (same as reshape in NumPy). Items are not moved, new strides are computed
+     * from the current ones.
+     *
+     * <p>Dimensions of both shapes are split into the groups with equal number of items. New
+     * strides exist only when items inside each group of current dimensions are evenly spaced:
+     * stride of each dimension in the group is the next stride multiplied by the next dimension.
+     * Dimensions of size 1 do not affect the mapping and are ignored.
+     *
+     * @return null when such strides do not exist or some of the items are out of bounds, so the
+     *     items need to be copied
+     */
+    public NdTo1dMapper reshape(Shape target) {
+        if (target.size() != shape.size())
+            throw new IllegalArgumentException(
+                    "Shape %s cannot be reshaped to %s".formatted(shape, target));
+        if (!Arrays.equals(limits, shape.dims())) return null;
+        var dims = shape.dims();
+        var oldDims = new int[dims.length];
+        var oldStrides = new int[dims.length];
+        var oldCount = 0;
+        for (int d = 0; d < dims.length; d++) {
+            if (dims[d] == 1) continue;
+            oldDims[oldCount] = dims[d];
+            oldStrides[oldCount++] = strides[d];
+        }
+        var newDims = target.dims();
+        var newStrides = new int[newDims.length];
+        // current group is [oi, oj) of current dimensions and [ni, nj) of new ones
+        for (int oi = 0, oj = 1, ni = 0, nj = 1; ni < newDims.length && oi < oldCount; ) {
+            var newItems = newDims[ni];
+            var oldItems = oldDims[oi];
+            while (newItems != oldItems) {
+                if (newItems < oldItems) newItems *= newDims[nj++];
+                else oldItems *= oldDims[oj++];
+            }
+            for (int k = oi; k < oj - 1; k++)
+                if (oldStrides[k] != oldDims[k + 1] * oldStrides[k + 1]) return null;
+            newStrides[nj - 1] = oldStrides[oj - 1];
+            for (int k = nj - 1; k > ni; k--) newStrides[k - 1] = newStrides[k] * newDims[k];
+            ni = nj++;
+            oi = oj++;
+        }
+        return new NdTo1dMapper(target, offset, newStrides, newDims.clone());
+    }
+
+    public Shape shape() {
+        return shape;
+    }
+
+    /** Item index of the first item */
+    public int offset() {
+        return offset;
+    }
+
+    /** Distance between consecutive items in each of the dimensions */
+    public int[] strides() {
+        return strides.clone();
+    }
+
+    public int map(int i) {
+        if (strides.length != 1) return map(new int[] {i});
+        checkIndex(i, 0);
+        return offset + i * strides[0];
+    }
+
+    public int map(int i, int j) {
+        if (strides.length != 2) return map(new int[] {i, j});
+        checkIndex(i, 0);
+        checkIndex(j, 1);
+        return offset + i * strides[0] + j * strides[1];
+    }
+
+    public int map(int i, int j, int k) {
+        if (strides.length != 3) return map(new int[] {i, j, k});
+        checkIndex(i, 0);
+        checkIndex(j, 1);
+        checkIndex(k, 2);
+        return offset + i * strides[0] + j * strides[1] + k * strides[2];
+    }
+
+    public int map(int i, int j, int k, int l) {
+        if (strides.length != 4) return map(new int[] {i, j, k, l});
+        checkIndex(i, 0);
+        checkIndex(j, 1);
+        checkIndex(k, 2);
+        checkIndex(l, 3);
+        return offset + i * strides[0] + j * strides[1] + k * strides[2] + l * strides[3];
+    }
+
+    /**
+     * When less indices are given than the number of dimensions in the shape, the missing higher
+     * order indices are treated as 0.
+     *
+     * <p>When more indices are given than the number of dimensions in the shape, we ignore all
+     * higher order indices and keep only those which are part of the shape. This is allowed only
+     * when higher order indices are equal to 0, otherwise we treat it as an error and throw an
+     * exception. This allows to map views with N dimensions to base ndbuffers with K dimensions
+     * when K < N. For example given base buffer of 1D vector "1, 2, 3, 4, 5" we allow to map a 2D
+     * matrix (view) into it with a {@link NSlice} which first dimension is "0:1:1", any other slice
+     * (ex. "1:2:1") will result in error.
+     */
     public int map(int... indices) {
-        var index1d = 0;
-        indices = filter(indices);
-        for (int i = 0; i < indices.length; i++) {
-            if (indices[i] >= shape.dims()[i])
-                throw new ArrayIndexOutOfBoundsException(
+        var c = 0;
+        while (strides.length + c < indices.length) {
+            if (indices[c++] != 0)
+                throw new IllegalArgumentException(
                         "Indexing %s does not match the shape %s"
                                 .formatted(Arrays.toString(indices), shape));
-            var stride = 1;
-            if (i + 1 < indices.length) {
-                stride = prefixSizes[i + 1];
-            }
-            index1d += indices[i] * stride;
         }
-        if (index1d >= shape.size()) throw new ArrayIndexOutOfBoundsException(index1d);
+        var index1d = offset;
+        for (int d = strides.length - (indices.length - c); c < indices.length; c++, d++) {
+            checkIndex(indices[c], d);
+            index1d += indices[c] * strides[d];
+        }
         return index1d;
     }
 
     /**
-     * Allow to map views with N dimensions to base ndbuffers with K dimensions when K < N
+     * Same as {@link #map(int...)} but indices are not checked against the bounds of the
+     * dimensions. Number of indices should be equal to the number of dimensions. For the indices
+     * which are out of bounds the result is undefined, it can be an index of another item or an
+     * index outside of the storage.
      *
-     * <p>If sourceShape has less dimensions comparing to the number of dimensions specified in the
-     * queried indices then we ignore all higher order dimensions and keep only those which are part
-     * of the sourceShape. This is allowed only when higher order indices are equal to 0, otherwise
-     * we treat it as an error and throw an exception. For example given base buffer of 1D vector
-     * "1, 2, 3, 4, 5" we allow to map a 2D matrix (view) into it with a {@link NSlice} which first
-     * dimension is "0:1:1", any other slice (ex. "1:2:1") will result in error.
+     * <p>Use it only when the bounds are already checked (see {@link #checkBounds()}).
      */
-    private int[] filter(int[] indices) {
-        if (shape.dims().length == indices.length) return indices;
-        var c = 0;
-        while (shape.dims().length + c < indices.length) {
-            if (indices[c++] != 0) throw new IllegalArgumentException();
-        }
-        return Arrays.copyOfRange(indices, c, indices.length);
+    public int mapUnchecked(int... indices) {
+        var index1d = offset;
+        for (int d = 0; d < strides.length; d++) index1d += indices[d] * strides[d];
+        return index1d;
+    }
+
+    /**
+     * Check that all items of the shape can be mapped. Once it is checked, items can be accessed
+     * without checking their indices (see {@link #mapUnchecked(int...)}).
+     *
+     * @throws ArrayIndexOutOfBoundsException if some of the items are out of bounds of the ndbuffer
+     *     which the mapper points to (ex. view which goes beyond its ndbuffer)
+     */
+    public void checkBounds() {
+        var dims = shape.dims();
+        for (int d = 0; d < dims.length; d++) checkIndex(dims[d] - 1, d);
     }
 
-    private static int[] calcPrefixSizes(int[] dims) {
-        var prefixSizes = new int[dims.length];
-        prefixSizes[prefixSizes.length - 1] = dims[dims.length - 1];
-        for (int i = prefixSizes.length - 2; i >= 0; i--) {
-            prefixSizes[i] = dims[i] * prefixSizes[i + 1];
+    /**
+     * Visit all indices of the shape in the increasing order together with their item indices. The
+     * bounds are checked once before the first item (see {@link #checkBounds()}) and item indices
+     * are advanced incrementally by the strides.
+     *
+     * <p>Consumer receives the same instance of the array for all indices, and the item index
+     * inside continuous block storage as the offset.
+     */
+    public void forEachIndex(Shape.IndexConsumer consumer) {
+        checkBounds();
+        var dims = shape.dims();
+        var last = dims.length - 1;
+        var index = new int[dims.length];
+        var index1d = offset;
+        var stride = strides[last];
+        while (true) {
+            for (int i = 0; i < dims[last]; i++) {
+                index[last] = i;
+                consumer.accept(index, index1d + i * stride);
+            }
+            index[last] = 0;
+            var d = last - 1;
+            for (; d >= 0; d--) {
+                if (++index[d] < dims[d]) {
+                    index1d += strides[d];
+                    break;
+                }
+                index1d -= strides[d] * (dims[d] - 1);
+                index[d] = 0;
+            }
+            if (d < 0) break;
         }
-        return prefixSizes;
+    }
+
+    private void checkIndex(int index, int dim) {
+        if (index < 0 || index >= limits[dim])
+            throw new ArrayIndexOutOfBoundsException(
+                    "Index %d is out of bounds of the dimension %d of the shape %s"
+                            .formatted(index, dim, shape));
     }
 }
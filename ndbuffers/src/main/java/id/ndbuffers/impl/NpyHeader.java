@@ -0,0 +1,162 @@
+/*
+ * Copyright 2025 ndbuffers
+ * 
+ * Website: https://github.com/lambdaprime/ndbuffers
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package id.ndbuffers.impl;
+
+import id.ndbuffers.Shape;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Header of NumPy .npy file.
+ *
+ * <p>Only arrays of 64-bit floating point numbers ("f8" type) are supported. Shape of 0-dimensional
+ * arrays is read as {@link Shape} with one item.
+ *
+ * @param order byte order of the items
+ * @param fortranOrder when true the items are stored in column-major order
+ * @see <a href="https://numpy.org/doc/stable/reference/generated/numpy.lib.format.html">NumPy .npy
+ *     format</a>
+ * @author lambdaprime intid@protonmail.com
+ */
+public record NpyHeader(Shape shape, ByteOrder order, boolean fortranOrder) {
+    private static final byte[] MAGIC = {(byte) 0x93, 'N', 'U', 'M', 'P', 'Y'};
+    private static final int ALIGNMENT = 64;
+
+    /** Same limit as the default max_header_size of NumPy */
+    private static final int MAX_HEADER_LENGTH = 10_000;
+
+    private static final Pattern DESCR = Pattern.compile("'descr'\\s*:\\s*'([^']*)'");
+    private static final Pattern FORTRAN_ORDER =
+            Pattern.compile("'fortran_order'\\s*:\\s*(True|False)");
+    private static final Pattern SHAPE = Pattern.compile("'shape'\\s*:\\s*\\(([^)]*)\\)");
+
+    /** Size of the header in bytes including magic and padding, items start right after it */
+    public int size() {
+        var dict = dict();
+        return MAGIC.length + 2 + lengthBytes(dict) + paddedLength(dict);
+    }
+
+    /** Size of all the items in bytes */
+    public long dataSize() {
+        return (long) shape.size() * Double.BYTES;
+    }
+
+    /** Write header into the current position of the channel */
+    public void write(WritableByteChannel channel) throws IOException {
+        var dict = dict();
+        var lengthBytes = lengthBytes(dict);
+        var length = paddedLength(dict);
+        var buf = ByteBuffer.allocate(MAGIC.length + 2 + lengthBytes + length);
+        buf.order(ByteOrder.LITTLE_ENDIAN);
+        buf.put(MAGIC);
+        buf.put((byte) (lengthBytes == 2 ? 1 : 2));
+        buf.put((byte) 0);
+        if (lengthBytes == 2) buf.putShort((short) length);
+        else buf.putInt(length);
+        buf.put(dict.getBytes(StandardCharsets.US_ASCII));
+        while (buf.position() < buf.limit() - 1) buf.put((byte) ' ');
+        buf.put((byte) '\n');
+        buf.flip();
+        while (buf.hasRemaining()) channel.write(buf);
+    }
+
+    /** Read header from the current position of the channel, channel is left at the first item */
+    public static NpyHeader read(ReadableByteChannel channel) throws IOException {
+        var prefix = readFully(channel, MAGIC.length + 2);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (prefix.get() != MAGIC[i]) throw new IOException("Not a NumPy .npy data");
+        }
+        var major = prefix.get();
+        prefix.get();
+        int length;
+        if (major == 1) length = Short.toUnsignedInt(readFully(channel, 2).getShort());
+        else if (major == 2 || major == 3) length = readFully(channel, 4).getInt();
+        else throw new IOException("Unsupported .npy version " + major);
+        if (length < 0) throw new IOException("Not valid .npy header length " + length);
+        if (length > MAX_HEADER_LENGTH)
+            throw new IOException(
+                    "Header length %d exceeds the limit of %d bytes"
+                            .formatted(length, MAX_HEADER_LENGTH));
+        var dict = StandardCharsets.UTF_8.decode(readFully(channel, length)).toString();
+        var descr = DESCR.matcher(dict);
+        var fortranOrder = FORTRAN_ORDER.matcher(dict);
+        var shape = SHAPE.matcher(dict);
+        if (!descr.find() || !fortranOrder.find() || !shape.find())
+            throw new IOException("Not valid .npy header: " + dict);
+        var order =
+                switch (descr.group(1)) {
+                    case "<f8" -> ByteOrder.LITTLE_ENDIAN;
+                    case ">f8" -> ByteOrder.BIG_ENDIAN;
+                    default -> throw new IOException("Unsupported .npy type " + descr.group(1));
+                };
+        int[] dims;
+        try {
+            dims =
+                    Arrays.stream(shape.group(1).split(","))
+                            .map(String::strip)
+                            .filter(s -> !s.isEmpty())
+                            .mapToInt(Integer::parseInt)
+                            .toArray();
+            if (dims.length == 0) dims = new int[] {1};
+            for (var d : dims)
+                if (d <= 0) throw new IOException("Not valid .npy shape: " + shape.group(1));
+            return new NpyHeader(new Shape(dims), order, fortranOrder.group(1).equals("True"));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Not valid .npy shape: " + shape.group(1), e);
+        }
+    }
+
+    private String dict() {
+        var dims = shape.dims();
+        var shapeStr =
+                Arrays.stream(dims).mapToObj(Integer::toString).collect(Collectors.joining(", "));
+        if (dims.length == 1) shapeStr += ",";
+        return "{'descr': '%sf8', 'fortran_order': %s, 'shape': (%s), }"
+                .formatted(
+                        order == ByteOrder.LITTLE_ENDIAN ? "<" : ">",
+                        fortranOrder ? "True" : "False",
+                        shapeStr);
+    }
+
+    /** Version 1.0 stores the length of the header in 2 bytes, version 2.0 in 4 bytes */
+    private static int lengthBytes(String dict) {
+        return MAGIC.length + 2 + 2 + dict.length() + 1 <= 0xffff ? 2 : 4;
+    }
+
+    /** Length of the dictionary padded with spaces and terminated with new line */
+    private static int paddedLength(String dict) {
+        var prefix = MAGIC.length + 2 + lengthBytes(dict);
+        var total = prefix + dict.length() + 1;
+        return (total + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT - prefix;
+    }
+
+    private static ByteBuffer readFully(ReadableByteChannel channel, int size) throws IOException {
+        var buf = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buf.hasRemaining()) {
+            if (channel.read(buf) < 0) throw new IOException("Unexpected end of .npy data");
+        }
+        return buf.flip();
+    }
+}
@@ -23,6 +23,7 @@ import id.ndbuffers.DoubleNdBufferView;
 import id.ndbuffers.NSlice;
 import id.ndbuffers.Shape;
 import id.ndbuffers.Slice;
+import id.ndbuffers.impl.DoubleMatrixMultiplier;
 import java.nio.DoubleBuffer;
 
 /**
@@ -31,6 +32,7 @@ import java.nio.DoubleBuffer;
  * @author lambdaprime intid@protonmail.com
  */
 public class MatrixNd extends DoubleNdBufferView implements DoubleNdBuffer {
+    private static final DoubleMatrixMultiplier multiplier = new DoubleMatrixMultiplier();
 
     public MatrixNd(int rows, int cols, double[] data) {
         this(rows, cols, DoubleBuffer.wrap(data));
@@ -58,10 +60,13 @@ public class MatrixNd extends DoubleNdBufferView implements DoubleNdBuffer {
 
     public MatrixNd(NSlice nslice, DoubleNdBuffer data) {
         super(
-                Shape.ofSize(nslice, nslice.slices().length - 2, nslice.slices().length),
+                Shape.ofSize(
+                        nslice.resolve(data.shape()),
+                        nslice.slices().length - 2,
+                        nslice.slices().length),
                 nslice,
                 data);
-        var slices = nslice.slices();
+        var slices = nslice.resolve(data.shape()).slices();
         for (int i = 0; i < slices.length - 2; i++) {
             if (slices[i].size() > 1)
                 throw new IllegalArgumentException(
@@ -77,18 +82,13 @@ public class MatrixNd extends DoubleNdBufferView implements DoubleNdBuffer {
         return shape.dims()[1];
     }
 
-    @Override
-    public double get(int... indices) {
-        return data.get(nslice.map(indices));
-    }
-
-    @Override
-    public void set(double v, int... indices) {
-        data.set(v, nslice.map(indices));
-    }
-
-    @Override
-    public DoubleBuffer duplicate() {
-        return data.duplicate();
+    /**
+     * Matrix multiplication: dst = this * other
+     *
+     * <p>Result is written into the destination matrix so no memory is allocated. Destination
+     * matrix should not share any items with this or other matrix.
+     */
+    public void multiply(MatrixNd other, MatrixNd dst) {
+        multiplier.multiply(this, other, dst);
     }
 }
@@ -76,6 +76,14 @@
  * pointer to it, see {@link java.nio.Buffer#duplicate} for details). Because view ndbuffers does
  * not contain any data, this method returns the {@link Buffer} of the base ndbuffers.
  *
+ * <h2>Concurrency</h2>
+ *
+ * <p>State of <b>ndbuffers</b> never changes after construction and their items are accessed with
+ * the absolute {@link java.nio.Buffer} operations, so the same ndbuffer can be used from multiple
+ * threads. Items themselves are not protected from the data races. When multiple threads update
+ * the same items use {@link id.ndbuffers.AtomicDoubleNdBuffer}, which provides volatile and atomic
+ * access to each of the items without locks.
+ *
  * <h2>byte[] vs Buffer vs MemorySegment</h2>
  *
  * <p>Here is a comparison of {@link java.nio.Buffer} which is used by <b>ndbuffers</b> with other